@@ -24,6 +24,7 @@ import java.lang.annotation.Target;
 import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 
 import com.google.common.jimfs.Configuration;
 import com.google.common.jimfs.Jimfs;
@@ -154,6 +155,27 @@ class TempDirectoryDemo {
 	}
 	// end::user_guide_factory_jimfs[]
 
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	static
+	// tag::user_guide_factory_seeded[]
+	class SeededTempDirDemo {
+
+		@Test
+		void test(@TempDir(factory = FixtureTempDirFactory.class) Path tempDir) {
+			assertTrue(Files.exists(tempDir.resolve("two-column.csv")));
+		}
+
+		static class FixtureTempDirFactory extends TempDirFactory.Seeded {
+
+			FixtureTempDirFactory() {
+				super(Paths.get("src/test/resources"), true);
+			}
+
+		}
+
+	}
+	// end::user_guide_factory_seeded[]
+
 	// tag::user_guide_composed_annotation[]
 	@Target({ ElementType.ANNOTATION_TYPE, ElementType.FIELD, ElementType.PARAMETER })
 	@Retention(RetentionPolicy.RUNTIME)
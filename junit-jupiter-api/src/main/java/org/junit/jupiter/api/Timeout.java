@@ -332,6 +332,29 @@ public @interface Timeout {
 	@API(status = EXPERIMENTAL, since = "5.9")
 	String DEFAULT_TIMEOUT_THREAD_MODE_PROPERTY_NAME = "junit.jupiter.execution.timeout.thread.mode.default";
 
+	/**
+	 * Property name used to configure how threads are provided for methods
+	 * executed with the {@link ThreadMode#SEPARATE_THREAD SEPARATE_THREAD}
+	 * thread mode: {@value}.
+	 *
+	 * <h4>Supported thread pool mode values:</h4>
+	 * <ul>
+	 * <li>{@code disabled}: a new platform thread is started for each method
+	 * <li>{@code platform}: platform threads are pooled and reused for
+	 * subsequent methods unless a method exceeded its timeout; values of
+	 * {@link ThreadLocal} variables set by a method may be visible to
+	 * subsequent methods executed in the same thread
+	 * <li>{@code virtual}: a new virtual thread is started for each method;
+	 * requires Java 21 or later
+	 * </ul>
+	 *
+	 * <p>If not specified, the default is {@code disabled}.
+	 *
+	 * @since 5.12
+	 */
+	@API(status = EXPERIMENTAL, since = "5.12")
+	String TIMEOUT_THREAD_POOL_MODE_PROPERTY_NAME = "junit.jupiter.execution.timeout.thread.pool.mode";
+
 	/**
 	 * The duration of this timeout.
 	 *
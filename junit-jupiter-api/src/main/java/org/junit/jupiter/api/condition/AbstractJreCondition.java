@@ -38,6 +38,11 @@ abstract class AbstractJreCondition<A extends Annotation> extends BooleanExecuti
 		this.annotationName = annotationType.getSimpleName();
 	}
 
+	@Override
+	public boolean isDeterministicPerElement() {
+		return true;
+	}
+
 	protected final IntStream validatedVersions(JRE[] jres, int[] versions) {
 		Preconditions.condition(jres.length > 0 || versions.length > 0,
 			() -> "You must declare at least one JRE or version in @" + this.annotationName);
@@ -33,6 +33,11 @@ abstract class AbstractJreRangeCondition<A extends Annotation> extends BooleanEx
 		this.annotationName = annotationType.getSimpleName();
 	}
 
+	@Override
+	public boolean isDeterministicPerElement() {
+		return true;
+	}
+
 	protected final boolean isCurrentVersionWithinRange(JRE minJre, JRE maxJre, int minVersion, int maxVersion) {
 		boolean minJreSet = minJre != JRE.UNDEFINED;
 		boolean maxJreSet = maxJre != JRE.UNDEFINED;
@@ -44,6 +44,11 @@ abstract class AbstractOsBasedExecutionCondition<A extends Annotation> implement
 
 	abstract ConditionEvaluationResult evaluateExecutionCondition(A annotation);
 
+	@Override
+	public boolean isDeterministicPerElement() {
+		return true;
+	}
+
 	String createReason(boolean enabled, boolean osSpecified, boolean archSpecified) {
 		StringBuilder reason = new StringBuilder() //
 				.append(enabled ? "Enabled" : "Disabled") //
@@ -10,6 +10,7 @@
 
 package org.junit.jupiter.api.extension;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.STABLE;
 
 import org.apiguardian.api.API;
@@ -70,4 +71,33 @@ public interface ExecutionCondition extends Extension {
 	 */
 	ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context);
 
+	/**
+	 * Determine if the result of evaluating this condition depends solely on
+	 * the {@linkplain ExtensionContext#getElement() annotated element} of the
+	 * supplied {@link ExtensionContext}.
+	 *
+	 * <p>If this method returns {@code true}, the result of evaluating this
+	 * condition for a given element may be computed once and reused for all
+	 * further evaluations of any instance of the same condition class for the
+	 * same element &mdash; for example, for every invocation of a
+	 * {@code @RepeatedTest} or {@code @ParameterizedTest} method &mdash; for
+	 * the remainder of the current test run.
+	 *
+	 * <p>Conditions should therefore only return {@code true} if their result
+	 * cannot change during a test run &mdash; for example, if it depends only
+	 * on the operating system, architecture, or JRE. Conditions that evaluate
+	 * state which may be modified by tests or callbacks, such as system
+	 * properties, must not return {@code true}.
+	 *
+	 * <p>Defaults to {@code false}.
+	 *
+	 * @return {@code true} if the result of this condition is deterministic per
+	 * annotated element
+	 * @since 5.12
+	 */
+	@API(status = EXPERIMENTAL, since = "5.12")
+	default boolean isDeterministicPerElement() {
+		return false;
+	}
+
 }
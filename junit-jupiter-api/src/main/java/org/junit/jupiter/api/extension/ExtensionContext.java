@@ -438,6 +438,53 @@ public interface ExtensionContext {
 	@API(status = STABLE, since = "5.11")
 	ExecutableInvoker getExecutableInvoker();
 
+	/**
+	 * Get the shared fixture that extensions of the supplied type stored under
+	 * the supplied {@code key}, creating it via the supplied
+	 * {@code defaultCreator} if necessary.
+	 *
+	 * <p>A shared fixture is created on first use and shared by all test
+	 * classes of the current test run that declare the supplied extension type
+	 * via {@link ExtendWith @ExtendWith} &mdash; directly, on a superclass, on
+	 * one of their {@code @Nested} classes, or via a meta-annotation &mdash; as
+	 * well as by all classes that request it. In contrast to a value stored in
+	 * the {@link Store} of the {@linkplain #getRoot() root} context, it is
+	 * released as soon as the last top-level test class that declared or
+	 * requested it has finished, at which point it is closed if it is a
+	 * {@link Store.CloseableResource CloseableResource}. Requesting it again
+	 * afterwards creates a new fixture. Fixtures requested via the root context
+	 * itself are kept until the end of the test run.
+	 *
+	 * <p>Classes that only register the extension programmatically or
+	 * globally cannot be detected in advance; a fixture they request is shared
+	 * with all other classes that are running at the same time but may have to
+	 * be recreated for classes executed later on.
+	 *
+	 * <p>The default implementation stores the fixture in the {@link Store}
+	 * of the {@linkplain #getRoot() root} context in a {@link Namespace}
+	 * created for the supplied extension type, so that it is shared by all
+	 * classes but only released at the end of the test run. Implementations
+	 * should override this method to release fixtures earlier.
+	 *
+	 * @param extensionType the type of extension the fixture belongs to; never
+	 * {@code null}
+	 * @param key the key of the fixture; never {@code null}
+	 * @param defaultCreator the function called with the supplied {@code key}
+	 * to create a new fixture; never {@code null} but may return {@code null}
+	 * @param requiredType the required type of the fixture; never {@code null}
+	 * @param <K> the key type
+	 * @param <V> the fixture type
+	 * @return the shared fixture; may be {@code null}
+	 * @since 5.12
+	 * @see Store#getOrComputeIfAbsent(Object, Function, Class)
+	 */
+	@API(status = EXPERIMENTAL, since = "5.12")
+	default <K, V> V getOrComputeSharedFixture(Class<? extends Extension> extensionType, K key,
+			Function<K, V> defaultCreator, Class<V> requiredType) {
+		return getRoot().getStore(Namespace.create(extensionType)).getOrComputeIfAbsent(key, defaultCreator,
+			requiredType);
+	}
+
 	/**
 	 * {@code Store} provides methods for extensions to save and retrieve data.
 	 */
@@ -454,6 +501,13 @@ public interface ExtensionContext {
 		 * <p>The resources stored in a {@link Store Store} are closed in the
 		 * inverse order they were added in.
 		 *
+		 * <p>If the {@code junit.jupiter.extensions.store.close.parallelism}
+		 * configuration parameter is set to a value greater than {@code 1},
+		 * this order is only guaranteed for resources stored in the same
+		 * {@link Namespace Namespace}. Resources stored in different namespaces
+		 * may then be closed concurrently and in any order. Resources that
+		 * depend on each other should therefore be stored in the same namespace.
+		 *
 		 * @since 5.1
 		 */
 		@API(status = STABLE, since = "5.1")
@@ -706,9 +760,12 @@ public interface ExtensionContext {
 		}
 
 		private final List<Object> parts;
+		private final int hashCode;
 
 		private Namespace(List<Object> parts) {
 			this.parts = parts;
+			// computed eagerly since namespaces are hashed on every store access
+			this.hashCode = parts.hashCode();
 		}
 
 		@Override
@@ -720,12 +777,12 @@ public interface ExtensionContext {
 				return false;
 			}
 			Namespace that = (Namespace) o;
-			return this.parts.equals(that.parts);
+			return this.hashCode == that.hashCode && this.parts.equals(that.parts);
 		}
 
 		@Override
 		public int hashCode() {
-			return this.parts.hashCode();
+			return this.hashCode;
 		}
 
 		/**
@@ -176,6 +176,63 @@ public @interface TempDir {
 	@API(status = EXPERIMENTAL, since = "5.9")
 	String DEFAULT_CLEANUP_MODE_PROPERTY_NAME = "junit.jupiter.tempdir.cleanup.mode.default";
 
+	/**
+	 * The name of the configuration parameter that is used to configure
+	 * whether temporary directories are deleted asynchronously: {@value}
+	 *
+	 * <p>If set to {@code true}, a temporary directory that is cleaned up is
+	 * first renamed to a sibling trash directory and then deleted in the
+	 * background, with its subdirectories being deleted in parallel.
+	 * Failures to delete it are reported once all tests have been executed.
+	 * If the directory cannot be renamed, it is deleted synchronously.
+	 *
+	 * <p>This configuration parameter only affects how a temporary directory
+	 * is deleted; whether it is deleted is still determined by its
+	 * {@link CleanupMode}.
+	 *
+	 * <p>If this configuration parameter is not set, {@code false} will be
+	 * used as the default.
+	 *
+	 * @since 5.12
+	 */
+	@API(status = EXPERIMENTAL, since = "5.12")
+	String ASYNC_CLEANUP_ENABLED_PROPERTY_NAME = "junit.jupiter.tempdir.cleanup.async.enabled";
+
+	/**
+	 * The name of the configuration parameter that is used to configure the
+	 * parent directory of temporary directories created by
+	 * {@link TempDirFactory.MemoryBacked}: {@value}
+	 *
+	 * <p>The configured directory should reside on a memory-backed file
+	 * system such as a {@code tmpfs} mount.
+	 *
+	 * <p>If this configuration parameter is not set,
+	 * {@value TempDirFactory.MemoryBacked#DEFAULT_PATH} will be used as the
+	 * default.
+	 *
+	 * @since 5.12
+	 */
+	@API(status = EXPERIMENTAL, since = "5.12")
+	String MEMORY_BACKED_PATH_PROPERTY_NAME = "junit.jupiter.tempdir.memory.path";
+
+	/**
+	 * The name of the configuration parameter that is used to configure the
+	 * maximum number of bytes a temporary directory created by
+	 * {@link TempDirFactory.MemoryBacked} may contain: {@value}
+	 *
+	 * <p>If set, a temporary directory is only created in the memory-backed
+	 * directory if its file system has at least this number of bytes of usable
+	 * space left. Moreover, the test or test class the temporary directory
+	 * belongs to fails if the temporary directory contains more than this
+	 * number of bytes at the end of its scope.
+	 *
+	 * <p>If this configuration parameter is not set, no budget is enforced.
+	 *
+	 * @since 5.12
+	 */
+	@API(status = EXPERIMENTAL, since = "5.12")
+	String MEMORY_BACKED_BUDGET_PROPERTY_NAME = "junit.jupiter.tempdir.memory.budget";
+
 	/**
 	 * How the temporary directory gets cleaned up after the test completes.
 	 *
@@ -14,12 +14,29 @@ import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.nio.file.FileStore;
+import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
+import java.nio.file.LinkOption;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFileAttributes;
+import java.nio.file.attribute.PosixFilePermission;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apiguardian.api.API;
 import org.junit.jupiter.api.extension.AnnotatedElementContext;
 import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.Preconditions;
 
 /**
  * {@code TempDirFactory} defines the SPI for creating temporary directories
@@ -33,7 +50,8 @@ import org.junit.jupiter.api.extension.ExtensionContext;
  * assumptions regarding when and how many times they are instantiated, but they
  * can assume that {@link #createTempDirectory(AnnotatedElementContext, ExtensionContext)}
  * and {@link #close()} will both be called once per instance, in this order,
- * and from the same thread.
+ * and from the same thread. If a temporary directory has been created,
+ * {@link #beforeClose(Path)} is called in between.
  *
  * <p>A {@link TempDirFactory} can be configured <em>globally</em> for the
  * entire test suite via the {@value TempDir#DEFAULT_FACTORY_PROPERTY_NAME}
@@ -64,6 +82,23 @@ public interface TempDirFactory extends Closeable {
 	Path createTempDirectory(AnnotatedElementContext elementContext, ExtensionContext extensionContext)
 			throws Exception;
 
+	/**
+	 * Called at the end of the scope of the supplied temporary directory
+	 * created by this factory, before it is cleaned up according to its
+	 * {@link CleanupMode} and before {@link #close()} is called.
+	 *
+	 * <p>The default implementation does nothing. If an exception is thrown,
+	 * the temporary directory is still cleaned up before the exception is
+	 * reported.
+	 *
+	 * @param tempDirectory the temporary directory; never {@code null}
+	 * @throws IOException in case of failures
+	 * @since 5.12
+	 */
+	@API(status = EXPERIMENTAL, since = "5.12")
+	default void beforeClose(Path tempDirectory) throws IOException {
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -97,4 +132,236 @@ public interface TempDirFactory extends Closeable {
 
 	}
 
+	/**
+	 * {@link TempDirFactory} implementation which creates temporary directories
+	 * in a memory-backed directory, if available.
+	 *
+	 * <p>The parent directory can be configured via the
+	 * {@value TempDir#MEMORY_BACKED_PATH_PROPERTY_NAME} configuration parameter
+	 * and defaults to {@value #DEFAULT_PATH}. If it does not exist, is not
+	 * writable, or has less usable space than the budget configured via the
+	 * {@value TempDir#MEMORY_BACKED_BUDGET_PROPERTY_NAME} configuration
+	 * parameter, the temporary directory is created like by {@link Standard}
+	 * instead.
+	 *
+	 * <p>At the end of its scope, the number of bytes contained in a temporary
+	 * directory created by this factory is published as a report entry. If it
+	 * exceeds the configured budget, the test or test class it belongs to fails.
+	 *
+	 * @since 5.12
+	 */
+	@API(status = EXPERIMENTAL, since = "5.12")
+	class MemoryBacked implements TempDirFactory {
+
+		/**
+		 * The default parent directory of temporary directories created by
+		 * this factory: {@value}
+		 */
+		public static final String DEFAULT_PATH = "/dev/shm";
+
+		private static final Logger logger = LoggerFactory.getLogger(MemoryBacked.class);
+
+		private ExtensionContext extensionContext;
+		private long budget;
+
+		public MemoryBacked() {
+		}
+
+		@Override
+		public Path createTempDirectory(AnnotatedElementContext elementContext, ExtensionContext extensionContext)
+				throws IOException {
+			this.extensionContext = extensionContext;
+			Path parent = extensionContext.getConfigurationParameter(TempDir.MEMORY_BACKED_PATH_PROPERTY_NAME,
+				Paths::get).orElseGet(() -> Paths.get(DEFAULT_PATH));
+			long budget = extensionContext.getConfigurationParameter(TempDir.MEMORY_BACKED_BUDGET_PROPERTY_NAME,
+				Long::parseLong).orElse(0L);
+			this.budget = budget;
+			if (isUsable(parent, budget)) {
+				return Files.createTempDirectory(parent, Standard.TEMP_DIR_PREFIX);
+			}
+			logger.debug(() -> String.format(
+				"Memory-backed directory %s is not usable; creating temp dir in default location instead.", parent));
+			return Files.createTempDirectory(Standard.TEMP_DIR_PREFIX);
+		}
+
+		/**
+		 * Publish the number of bytes contained in the supplied temporary
+		 * directory as a report entry and fail if it exceeds the configured
+		 * budget.
+		 */
+		@Override
+		public void beforeClose(Path tempDirectory) throws IOException {
+			long size = sizeOf(tempDirectory);
+			Map<String, String> entry = new LinkedHashMap<>();
+			entry.put("tempDir", tempDirectory.toString());
+			entry.put("tempDir.bytes", String.valueOf(size));
+			this.extensionContext.publishReportEntry(entry);
+			if (this.budget > 0 && size > this.budget) {
+				throw new IOException(String.format(
+					"Temp directory %s contained %d bytes at the end of its scope which exceeds the budget of %d bytes "
+							+ "configured via the '%s' configuration parameter.",
+					tempDirectory, size, this.budget, TempDir.MEMORY_BACKED_BUDGET_PROPERTY_NAME));
+			}
+		}
+
+		private static long sizeOf(Path dir) throws IOException {
+			AtomicLong size = new AtomicLong();
+			Files.walkFileTree(dir, new SimpleFileVisitor<Path>() {
+
+				@Override
+				public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+					if (attributes.isRegularFile()) {
+						size.addAndGet(attributes.size());
+					}
+					return FileVisitResult.CONTINUE;
+				}
+
+				@Override
+				public FileVisitResult visitFileFailed(Path file, IOException exc) {
+					return FileVisitResult.CONTINUE;
+				}
+			});
+			return size.get();
+		}
+
+		private static boolean isUsable(Path parent, long budget) {
+			if (!Files.isDirectory(parent) || !Files.isWritable(parent)) {
+				return false;
+			}
+			try {
+				return Files.getFileStore(parent).getUsableSpace() >= budget;
+			}
+			catch (IOException ex) {
+				return false;
+			}
+		}
+
+	}
+
+	/**
+	 * {@link TempDirFactory} implementation which seeds each temporary
+	 * directory with the contents of a template directory.
+	 *
+	 * <p>Tests that start by copying the same fixture directory into a
+	 * temporary directory should extend this class and pass the template
+	 * directory to its constructor. Since factories must provide a no-args
+	 * constructor, a subclass typically looks as follows:
+	 *
+	 * <pre class="code">
+	 * class FixtureTempDirFactory extends TempDirFactory.Seeded {
+	 *     FixtureTempDirFactory() {
+	 *         super(Paths.get("src/test/resources/fixture"), true);
+	 *     }
+	 * }</pre>
+	 *
+	 * <p>The subclass can then be referenced via the {@link TempDir#factory()
+	 * factory} attribute of {@link TempDir @TempDir} or via the
+	 * {@value TempDir#DEFAULT_FACTORY_PROPERTY_NAME} configuration parameter.
+	 *
+	 * <p>The temporary directory is created like by {@link Standard}. Regular
+	 * files are copied via {@link Files#copy(Path, Path, java.nio.file.CopyOption...)}
+	 * which lets the JVM use in-kernel copies or clones on file systems that
+	 * support them. If enabled, files that are not writable by anyone and that
+	 * the current user cannot write to either are hard linked into the
+	 * temporary directory instead of being copied. Thus, files are always
+	 * copied if tests run as a user that may write to any file, such as
+	 * {@code root}. Linking is only done on file systems that support POSIX
+	 * file permissions and only if both directories reside on the same file
+	 * store; otherwise, such files are copied as well. Tests must not change
+	 * the permissions of hard linked files since they share their content and
+	 * permissions with the template directory.
+	 * Symbolic links are copied as links.
+	 *
+	 * @since 5.12
+	 */
+	@API(status = EXPERIMENTAL, since = "5.12")
+	abstract class Seeded implements TempDirFactory {
+
+		private final Path template;
+		private final boolean linkReadOnlyFiles;
+
+		/**
+		 * Create a new factory that copies the contents of the supplied
+		 * template directory into each temporary directory.
+		 *
+		 * @param template the template directory; never {@code null}
+		 */
+		protected Seeded(Path template) {
+			this(template, false);
+		}
+
+		/**
+		 * Create a new factory that seeds each temporary directory with the
+		 * contents of the supplied template directory.
+		 *
+		 * @param template the template directory; never {@code null}
+		 * @param linkReadOnlyFiles whether files that are not writable by
+		 * anyone, including the current user, should be hard linked instead
+		 * of copied
+		 */
+		protected Seeded(Path template, boolean linkReadOnlyFiles) {
+			this.template = Preconditions.notNull(template, "template must not be null");
+			this.linkReadOnlyFiles = linkReadOnlyFiles;
+		}
+
+		@Override
+		public Path createTempDirectory(AnnotatedElementContext elementContext, ExtensionContext extensionContext)
+				throws IOException {
+			if (!Files.isDirectory(this.template)) {
+				throw new IOException("Template directory does not exist: " + this.template.toAbsolutePath());
+			}
+			Path tempDir = Files.createTempDirectory(Standard.TEMP_DIR_PREFIX);
+			boolean linkFiles = this.linkReadOnlyFiles && supportsLinks(tempDir);
+			Files.walkFileTree(this.template, new SimpleFileVisitor<Path>() {
+
+				@Override
+				public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+					if (!dir.equals(template)) {
+						Files.createDirectory(resolve(dir));
+					}
+					return FileVisitResult.CONTINUE;
+				}
+
+				@Override
+				public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+					Path target = resolve(file);
+					if (!linkFiles || !tryToLink(file, target)) {
+						Files.copy(file, target, StandardCopyOption.COPY_ATTRIBUTES, LinkOption.NOFOLLOW_LINKS);
+					}
+					return FileVisitResult.CONTINUE;
+				}
+
+				private Path resolve(Path path) {
+					return tempDir.resolve(template.relativize(path).toString());
+				}
+			});
+			return tempDir;
+		}
+
+		private boolean supportsLinks(Path tempDir) throws IOException {
+			FileStore fileStore = Files.getFileStore(tempDir);
+			return fileStore.supportsFileAttributeView(PosixFileAttributeView.class)
+					&& fileStore.equals(Files.getFileStore(this.template));
+		}
+
+		private static boolean tryToLink(Path file, Path target) {
+			try {
+				PosixFileAttributes attributes = Files.readAttributes(file, PosixFileAttributes.class,
+					LinkOption.NOFOLLOW_LINKS);
+				Set<PosixFilePermission> permissions = attributes.permissions();
+				if (!attributes.isRegularFile() || permissions.contains(PosixFilePermission.OWNER_WRITE)
+						|| permissions.contains(PosixFilePermission.GROUP_WRITE)
+						|| permissions.contains(PosixFilePermission.OTHERS_WRITE) || Files.isWritable(file)) {
+					return false;
+				}
+				Files.createLink(target, file);
+				return true;
+			}
+			catch (IOException | UnsupportedOperationException ex) {
+				return false;
+			}
+		}
+
+	}
+
 }
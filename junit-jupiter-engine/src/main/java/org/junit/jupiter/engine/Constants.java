@@ -193,6 +193,107 @@ public final class Constants {
 	@API(status = EXPERIMENTAL, since = "5.12")
 	public static final String EXTENSIONS_TIMEOUT_THREAD_DUMP_ENABLED_PROPERTY_NAME = JupiterConfiguration.EXTENSIONS_TIMEOUT_THREAD_DUMP_ENABLED_PROPERTY_NAME;
 
+	/**
+	 * Property name used to set the maximum number of threads used to close
+	 * {@link org.junit.jupiter.api.extension.ExtensionContext.Store.CloseableResource
+	 * CloseableResource} values when the store of an extension context is
+	 * closed: {@value}
+	 *
+	 * <p>If set to a value greater than {@code 1}, resources stored in
+	 * different namespaces are closed concurrently. Resources stored in the
+	 * same namespace are always closed sequentially in the reverse order in
+	 * which they were stored. Failures of all resources are reported.
+	 *
+	 * <p>The default value is {@code 1}; that is, all resources are closed
+	 * sequentially in the reverse order in which they were stored.
+	 *
+	 * @since 5.12
+	 */
+	@API(status = EXPERIMENTAL, since = "5.12")
+	public static final String EXTENSIONS_STORE_CLOSE_PARALLELISM_PROPERTY_NAME = JupiterConfiguration.EXTENSIONS_STORE_CLOSE_PARALLELISM_PROPERTY_NAME;
+
+	/**
+	 * Property name used to enable streaming execution of
+	 * {@link org.junit.jupiter.api.TestTemplate @TestTemplate} invocations,
+	 * including those of {@code @ParameterizedTest} and {@code @RepeatedTest}
+	 * methods: {@value}
+	 *
+	 * <p>When enabled, the invocation contexts of a test template are only
+	 * requested from their provider once the previous invocation has been
+	 * reported as finished, so that providers backed by lazy sources such as
+	 * large CSV files are consumed with constant memory regardless of the
+	 * configured execution mode.
+	 *
+	 * <p>The default value is {@code false}.
+	 *
+	 * @since 5.12
+	 */
+	@API(status = EXPERIMENTAL, since = "5.12")
+	public static final String TEST_TEMPLATE_STREAMING_ENABLED_PROPERTY_NAME = JupiterConfiguration.TEST_TEMPLATE_STREAMING_ENABLED_PROPERTY_NAME;
+
+	/**
+	 * Property name used to set the maximum number of invocations of a single
+	 * {@link org.junit.jupiter.api.TestTemplate @TestTemplate} method,
+	 * including {@code @ParameterizedTest} and {@code @RepeatedTest} methods,
+	 * that may be executed concurrently: {@value}
+	 *
+	 * <p>If set, invocations use
+	 * {@link org.junit.jupiter.api.parallel.ExecutionMode#CONCURRENT CONCURRENT}
+	 * as their default execution mode, at most the configured number of them
+	 * are pending at any time, and their results are reported in invocation
+	 * order. Parallel execution must be enabled via
+	 * {@link #PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME} for invocations to
+	 * actually run concurrently. Template methods annotated with
+	 * {@code @Execution(SAME_THREAD)} or covered by a read-write resource
+	 * lock are still invoked sequentially. Template methods in classes that
+	 * are annotated with {@code @Execution} or use the {@code PER_CLASS} test
+	 * instance lifecycle inherit their execution mode from the class instead.
+	 *
+	 * <p>The value must be a positive integer; by default, it is not set.
+	 *
+	 * @since 5.12
+	 */
+	@API(status = EXPERIMENTAL, since = "5.12")
+	public static final String TEST_TEMPLATE_CONCURRENCY_PROPERTY_NAME = JupiterConfiguration.TEST_TEMPLATE_CONCURRENCY_PROPERTY_NAME;
+
+	/**
+	 * Property name used to set the zero-based index of the shard of
+	 * invocations to execute: {@value}
+	 *
+	 * <p>If set together with {@link #INVOCATIONS_SHARD_COUNT_PROPERTY_NAME},
+	 * only those invocations of
+	 * {@link org.junit.jupiter.api.TestTemplate @TestTemplate} methods,
+	 * including {@code @ParameterizedTest} and {@code @RepeatedTest} methods,
+	 * and those dynamic nodes returned by
+	 * {@link org.junit.jupiter.api.TestFactory @TestFactory} methods are
+	 * executed that are assigned to the shard with this index. Invocations
+	 * are assigned to shards round-robin, starting at a shard derived from
+	 * the unique ID of their test template or test factory.
+	 * The remaining invocations are neither registered nor reported. Their
+	 * unique IDs are the same in every shard so that the reports of all
+	 * shards can be merged.
+	 *
+	 * <p>The value must be between {@code 0} and the shard count minus one;
+	 * by default, it is not set.
+	 *
+	 * @since 5.12
+	 */
+	@API(status = EXPERIMENTAL, since = "5.12")
+	public static final String INVOCATIONS_SHARD_INDEX_PROPERTY_NAME = JupiterConfiguration.INVOCATIONS_SHARD_INDEX_PROPERTY_NAME;
+
+	/**
+	 * Property name used to set the number of shards that the invocations of
+	 * test templates and the dynamic nodes of test factories are distributed
+	 * across: {@value}
+	 *
+	 * <p>The value must be a positive integer; by default, it is not set.
+	 *
+	 * @since 5.12
+	 * @see #INVOCATIONS_SHARD_INDEX_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "5.12")
+	public static final String INVOCATIONS_SHARD_COUNT_PROPERTY_NAME = JupiterConfiguration.INVOCATIONS_SHARD_COUNT_PROPERTY_NAME;
+
 	/**
 	 * Property name used to set the default test instance lifecycle mode: {@value}
 	 *
@@ -445,6 +546,17 @@ public final class Constants {
 	@API(status = EXPERIMENTAL, since = "5.9")
 	public static final String DEFAULT_TIMEOUT_THREAD_MODE_PROPERTY_NAME = Timeout.DEFAULT_TIMEOUT_THREAD_MODE_PROPERTY_NAME;
 
+	/**
+	 * Property name used to configure how threads are provided for methods
+	 * executed with the {@link Timeout.ThreadMode#SEPARATE_THREAD SEPARATE_THREAD}
+	 * timeout thread mode: {@value}
+	 *
+	 * @since 5.12
+	 * @see Timeout#TIMEOUT_THREAD_POOL_MODE_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "5.12")
+	public static final String TIMEOUT_THREAD_POOL_MODE_PROPERTY_NAME = Timeout.TIMEOUT_THREAD_POOL_MODE_PROPERTY_NAME;
+
 	/**
 	 * Property name used to set the default factory for temporary directories created via
 	 * the {@link TempDir @TempDir} annotation: {@value}
@@ -455,6 +567,36 @@ public final class Constants {
 	@API(status = EXPERIMENTAL, since = "5.10")
 	public static final String DEFAULT_TEMP_DIR_FACTORY_PROPERTY_NAME = TempDir.DEFAULT_FACTORY_PROPERTY_NAME;
 
+	/**
+	 * Property name used to enable asynchronous deletion of temporary
+	 * directories created via the {@link TempDir @TempDir} annotation: {@value}
+	 *
+	 * @since 5.12
+	 * @see TempDir#ASYNC_CLEANUP_ENABLED_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "5.12")
+	public static final String TEMP_DIR_ASYNC_CLEANUP_ENABLED_PROPERTY_NAME = TempDir.ASYNC_CLEANUP_ENABLED_PROPERTY_NAME;
+
+	/**
+	 * Property name used to set the parent directory of temporary directories
+	 * created by {@link org.junit.jupiter.api.io.TempDirFactory.MemoryBacked}: {@value}
+	 *
+	 * @since 5.12
+	 * @see TempDir#MEMORY_BACKED_PATH_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "5.12")
+	public static final String TEMP_DIR_MEMORY_BACKED_PATH_PROPERTY_NAME = TempDir.MEMORY_BACKED_PATH_PROPERTY_NAME;
+
+	/**
+	 * Property name used to set the size budget in bytes of temporary
+	 * directories created by {@link org.junit.jupiter.api.io.TempDirFactory.MemoryBacked}: {@value}
+	 *
+	 * @since 5.12
+	 * @see TempDir#MEMORY_BACKED_BUDGET_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "5.12")
+	public static final String TEMP_DIR_MEMORY_BACKED_BUDGET_PROPERTY_NAME = TempDir.MEMORY_BACKED_BUDGET_PROPERTY_NAME;
+
 	/**
 	 * Property name used to set the default extension context scope for
 	 * extensions that participate in test instantiation: {@value}
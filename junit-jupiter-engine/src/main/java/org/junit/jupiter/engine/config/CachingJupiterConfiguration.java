@@ -81,6 +81,32 @@ public class CachingJupiterConfiguration implements JupiterConfiguration {
 			__ -> delegate.isThreadDumpOnTimeoutEnabled());
 	}
 
+	@Override
+	public int getExtensionStoreCloseParallelism() {
+		return (int) cache.computeIfAbsent(EXTENSIONS_STORE_CLOSE_PARALLELISM_PROPERTY_NAME,
+			__ -> delegate.getExtensionStoreCloseParallelism());
+	}
+
+	@Override
+	public boolean isTestTemplateStreamingEnabled() {
+		return (boolean) cache.computeIfAbsent(TEST_TEMPLATE_STREAMING_ENABLED_PROPERTY_NAME,
+			__ -> delegate.isTestTemplateStreamingEnabled());
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public Optional<Integer> getTestTemplateConcurrency() {
+		return (Optional<Integer>) cache.computeIfAbsent(TEST_TEMPLATE_CONCURRENCY_PROPERTY_NAME,
+			__ -> delegate.getTestTemplateConcurrency());
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public Optional<InvocationShard> getInvocationShard() {
+		return (Optional<InvocationShard>) cache.computeIfAbsent(INVOCATIONS_SHARD_INDEX_PROPERTY_NAME,
+			__ -> delegate.getInvocationShard());
+	}
+
 	@Override
 	public ExecutionMode getDefaultExecutionMode() {
 		return (ExecutionMode) cache.computeIfAbsent(DEFAULT_EXECUTION_MODE_PROPERTY_NAME,
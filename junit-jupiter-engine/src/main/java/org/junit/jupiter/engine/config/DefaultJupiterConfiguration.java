@@ -122,6 +122,50 @@ public class DefaultJupiterConfiguration implements JupiterConfiguration {
 		return configurationParameters.getBoolean(EXTENSIONS_TIMEOUT_THREAD_DUMP_ENABLED_PROPERTY_NAME).orElse(false);
 	}
 
+	@Override
+	public int getExtensionStoreCloseParallelism() {
+		int parallelism = configurationParameters.get(EXTENSIONS_STORE_CLOSE_PARALLELISM_PROPERTY_NAME,
+			Integer::parseInt).orElse(1);
+		Preconditions.condition(parallelism > 0, () -> String.format(
+			"Invalid value for configuration parameter '%s': %d; must be greater than zero",
+			EXTENSIONS_STORE_CLOSE_PARALLELISM_PROPERTY_NAME, parallelism));
+		return parallelism;
+	}
+
+	@Override
+	public boolean isTestTemplateStreamingEnabled() {
+		return configurationParameters.getBoolean(TEST_TEMPLATE_STREAMING_ENABLED_PROPERTY_NAME).orElse(false);
+	}
+
+	@Override
+	public Optional<Integer> getTestTemplateConcurrency() {
+		Optional<Integer> concurrency = configurationParameters.get(TEST_TEMPLATE_CONCURRENCY_PROPERTY_NAME,
+			Integer::parseInt);
+		concurrency.ifPresent(value -> Preconditions.condition(value > 0,
+			() -> String.format("Invalid value for configuration parameter '%s': %d; must be greater than zero",
+				TEST_TEMPLATE_CONCURRENCY_PROPERTY_NAME, value)));
+		return concurrency;
+	}
+
+	@Override
+	public Optional<InvocationShard> getInvocationShard() {
+		Optional<Integer> index = configurationParameters.get(INVOCATIONS_SHARD_INDEX_PROPERTY_NAME, Integer::parseInt);
+		Optional<Integer> count = configurationParameters.get(INVOCATIONS_SHARD_COUNT_PROPERTY_NAME, Integer::parseInt);
+		if (!index.isPresent() && !count.isPresent()) {
+			return Optional.empty();
+		}
+		Preconditions.condition(index.isPresent() && count.isPresent(),
+			() -> String.format("Configuration parameters '%s' and '%s' must be set together",
+				INVOCATIONS_SHARD_INDEX_PROPERTY_NAME, INVOCATIONS_SHARD_COUNT_PROPERTY_NAME));
+		Preconditions.condition(count.get() > 0,
+			() -> String.format("Invalid value for configuration parameter '%s': %d; must be greater than zero",
+				INVOCATIONS_SHARD_COUNT_PROPERTY_NAME, count.get()));
+		Preconditions.condition(index.get() >= 0 && index.get() < count.get(),
+			() -> String.format("Invalid value for configuration parameter '%s': %d; must be between 0 and %d",
+				INVOCATIONS_SHARD_INDEX_PROPERTY_NAME, index.get(), count.get() - 1));
+		return Optional.of(new InvocationShard(index.get(), count.get()));
+	}
+
 	@Override
 	public ExecutionMode getDefaultExecutionMode() {
 		return executionModeConverter.get(configurationParameters, DEFAULT_EXECUTION_MODE_PROPERTY_NAME,
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.config;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import org.apiguardian.api.API;
+import org.junit.platform.commons.util.ToStringBuilder;
+import org.junit.platform.engine.UniqueId;
+
+/**
+ * One of several shards that the invocations of test templates and the
+ * dynamic nodes of test factories are distributed across.
+ *
+ * <p>Invocations are assigned to shards round-robin by their 1-based index,
+ * so each shard executes roughly the same share of every test template and
+ * test factory. The round-robin assignment of each test template and test
+ * factory starts at a different shard derived from the hash code of its
+ * unique ID, so that the first shard does not execute the first invocation of
+ * all of them.
+ *
+ * @since 5.12
+ * @see JupiterConfiguration#INVOCATIONS_SHARD_INDEX_PROPERTY_NAME
+ * @see JupiterConfiguration#INVOCATIONS_SHARD_COUNT_PROPERTY_NAME
+ */
+@API(status = INTERNAL, since = "5.12")
+public final class InvocationShard {
+
+	private final int index;
+	private final int count;
+
+	InvocationShard(int index, int count) {
+		this.index = index;
+		this.count = count;
+	}
+
+	/**
+	 * Determine whether the invocation with the supplied 1-based index of the
+	 * test template or test factory with the supplied unique ID belongs to
+	 * this shard.
+	 */
+	public boolean contains(UniqueId parentId, int invocationIndex) {
+		int offset = parentId.toString().hashCode();
+		return Math.floorMod(offset + invocationIndex - 1, this.count) == this.index;
+	}
+
+	@Override
+	public String toString() {
+		// @formatter:off
+		return new ToStringBuilder(this)
+				.append("index", this.index)
+				.append("count", this.count)
+				.toString();
+		// @formatter:on
+	}
+
+}
@@ -46,6 +46,11 @@ public interface JupiterConfiguration {
 	String DEFAULT_CLASSES_EXECUTION_MODE_PROPERTY_NAME = Execution.DEFAULT_CLASSES_EXECUTION_MODE_PROPERTY_NAME;
 	String EXTENSIONS_AUTODETECTION_ENABLED_PROPERTY_NAME = "junit.jupiter.extensions.autodetection.enabled";
 	String EXTENSIONS_TIMEOUT_THREAD_DUMP_ENABLED_PROPERTY_NAME = PreInterruptCallback.THREAD_DUMP_ENABLED_PROPERTY_NAME;
+	String EXTENSIONS_STORE_CLOSE_PARALLELISM_PROPERTY_NAME = "junit.jupiter.extensions.store.close.parallelism";
+	String TEST_TEMPLATE_STREAMING_ENABLED_PROPERTY_NAME = "junit.jupiter.testtemplate.streaming.enabled";
+	String TEST_TEMPLATE_CONCURRENCY_PROPERTY_NAME = "junit.jupiter.testtemplate.concurrency";
+	String INVOCATIONS_SHARD_INDEX_PROPERTY_NAME = "junit.jupiter.invocations.shard.index";
+	String INVOCATIONS_SHARD_COUNT_PROPERTY_NAME = "junit.jupiter.invocations.shard.count";
 	String DEFAULT_TEST_INSTANCE_LIFECYCLE_PROPERTY_NAME = TestInstance.Lifecycle.DEFAULT_LIFECYCLE_PROPERTY_NAME;
 	String DEFAULT_DISPLAY_NAME_GENERATOR_PROPERTY_NAME = DisplayNameGenerator.DEFAULT_GENERATOR_PROPERTY_NAME;
 	String DEFAULT_TEST_METHOD_ORDER_PROPERTY_NAME = MethodOrderer.DEFAULT_ORDER_PROPERTY_NAME;
@@ -64,6 +69,14 @@ public interface JupiterConfiguration {
 
 	boolean isThreadDumpOnTimeoutEnabled();
 
+	int getExtensionStoreCloseParallelism();
+
+	boolean isTestTemplateStreamingEnabled();
+
+	Optional<Integer> getTestTemplateConcurrency();
+
+	Optional<InvocationShard> getInvocationShard();
+
 	ExecutionMode getDefaultExecutionMode();
 
 	ExecutionMode getDefaultClassesExecutionMode();
@@ -10,13 +10,13 @@
 
 package org.junit.jupiter.engine.descriptor;
 
-import static java.util.stream.Collectors.collectingAndThen;
 import static java.util.stream.Collectors.toCollection;
+import static org.junit.platform.commons.util.ReflectionUtils.getWrapperType;
+import static org.junit.platform.commons.util.ReflectionUtils.isAssignableTo;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -28,6 +28,7 @@ import org.junit.jupiter.api.extension.ExecutableInvoker;
 import org.junit.jupiter.api.extension.Extension;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.ExtensionContext.Store.CloseableResource;
+import org.junit.jupiter.api.extension.ExtensionContextException;
 import org.junit.jupiter.api.extension.MediaType;
 import org.junit.jupiter.api.function.ThrowingConsumer;
 import org.junit.jupiter.api.parallel.ExecutionMode;
@@ -46,27 +47,43 @@ import org.junit.platform.engine.reporting.FileEntry;
 import org.junit.platform.engine.reporting.ReportEntry;
 import org.junit.platform.engine.support.hierarchical.Node;
 import org.junit.platform.engine.support.store.NamespacedHierarchicalStore;
+import org.junit.platform.engine.support.store.NamespacedHierarchicalStore.CloseAction;
 
 /**
  * @since 5.0
  */
 abstract class AbstractExtensionContext<T extends TestDescriptor> implements ExtensionContextInternal, AutoCloseable {
 
-	private static final NamespacedHierarchicalStore.CloseAction<Namespace> CLOSE_RESOURCES = (__, ___, value) -> {
-		if (value instanceof CloseableResource) {
-			((CloseableResource) value).close();
+	private static final CloseAction<Namespace> CLOSE_RESOURCES = new CloseAction<Namespace>() {
+
+		@Override
+		public void close(Namespace namespace, Object key, Object value) throws Throwable {
+			if (appliesTo(namespace, key, value)) {
+				((CloseableResource) value).close();
+			}
+		}
+
+		@Override
+		public boolean appliesTo(Namespace namespace, Object key, Object value) {
+			return value instanceof CloseableResource;
 		}
 	};
 
 	private final ExtensionContext parent;
 	private final EngineExecutionListener engineExecutionListener;
 	private final T testDescriptor;
-	private final Set<String> tags;
 	private final JupiterConfiguration configuration;
-	private final NamespacedHierarchicalStore<Namespace> valuesStore;
 	private final ExecutableInvoker executableInvoker;
 	private final ExtensionRegistry extensionRegistry;
 
+	/**
+	 * Created lazily since most extension contexts are never asked for a
+	 * store; written only while holding the monitor of this context, just
+	 * like {@link #closed}.
+	 */
+	private volatile NamespacedHierarchicalStore<Namespace> valuesStore;
+	private boolean closed;
+
 	AbstractExtensionContext(ExtensionContext parent, EngineExecutionListener engineExecutionListener, T testDescriptor,
 			JupiterConfiguration configuration, ExtensionRegistry extensionRegistry) {
 
@@ -78,27 +95,39 @@ abstract class AbstractExtensionContext<T extends TestDescriptor> implements Ext
 		this.engineExecutionListener = engineExecutionListener;
 		this.testDescriptor = testDescriptor;
 		this.configuration = configuration;
-		this.valuesStore = createStore(parent);
 		this.extensionRegistry = extensionRegistry;
-
-		// @formatter:off
-		this.tags = testDescriptor.getTags().stream()
-				.map(TestTag::getName)
-				.collect(collectingAndThen(toCollection(LinkedHashSet::new), Collections::unmodifiableSet));
-		// @formatter:on
 	}
 
-	private static NamespacedHierarchicalStore<Namespace> createStore(ExtensionContext parent) {
-		NamespacedHierarchicalStore<Namespace> parentStore = null;
-		if (parent != null) {
-			parentStore = ((AbstractExtensionContext<?>) parent).valuesStore;
+	private NamespacedHierarchicalStore<Namespace> getValuesStore() {
+		NamespacedHierarchicalStore<Namespace> store = this.valuesStore;
+		if (store == null) {
+			NamespacedHierarchicalStore<Namespace> parentStore = this.parent == null ? null
+					: ((AbstractExtensionContext<?>) this.parent).getValuesStore();
+			synchronized (this) {
+				store = this.valuesStore;
+				if (store == null) {
+					store = new NamespacedHierarchicalStore<>(parentStore, CLOSE_RESOURCES,
+						this.configuration.getExtensionStoreCloseParallelism());
+					if (this.closed) {
+						store.close();
+					}
+					this.valuesStore = store;
+				}
+			}
 		}
-		return new NamespacedHierarchicalStore<>(parentStore, CLOSE_RESOURCES);
+		return store;
 	}
 
 	@Override
 	public void close() {
-		this.valuesStore.close();
+		NamespacedHierarchicalStore<Namespace> store;
+		synchronized (this) {
+			this.closed = true;
+			store = this.valuesStore;
+		}
+		if (store != null) {
+			store.close();
+		}
 	}
 
 	@Override
@@ -189,13 +218,56 @@ abstract class AbstractExtensionContext<T extends TestDescriptor> implements Ext
 	@Override
 	public Store getStore(Namespace namespace) {
 		Preconditions.notNull(namespace, "Namespace must not be null");
-		return new NamespaceAwareStore(this.valuesStore, namespace);
+		return new NamespaceAwareStore(getValuesStore(), namespace);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <K, V> V getOrComputeSharedFixture(Class<? extends Extension> extensionType, K key,
+			Function<K, V> defaultCreator, Class<V> requiredType) {
+
+		Preconditions.notNull(extensionType, "extensionType must not be null");
+		Preconditions.notNull(key, "key must not be null");
+		Preconditions.notNull(defaultCreator, "defaultCreator must not be null");
+		Preconditions.notNull(requiredType, "requiredType must not be null");
+
+		Object value = getSharedFixtures().getOrCompute(getTopLevelTestClass(), extensionType, key,
+			k -> defaultCreator.apply((K) k));
+		if (value == null) {
+			return null;
+		}
+		if (isAssignableTo(value, requiredType)) {
+			return requiredType.isPrimitive() ? (V) getWrapperType(requiredType).cast(value) : requiredType.cast(value);
+		}
+		throw new ExtensionContextException(
+			String.format("Shared fixture stored under key [%s] is not of required type [%s], but was [%s]: %s", key,
+				requiredType.getName(), value.getClass().getName(), value));
+	}
+
+	SharedFixtures getSharedFixtures() {
+		return ((AbstractExtensionContext<?>) this.parent).getSharedFixtures();
+	}
+
+	/**
+	 * Get the top-level test class this context belongs to, or {@code null}
+	 * if this is the engine context.
+	 */
+	private Class<?> getTopLevelTestClass() {
+		if (this.parent == null) {
+			return null;
+		}
+		AbstractExtensionContext<?> parent = (AbstractExtensionContext<?>) this.parent;
+		return parent.parent == null ? getTestClass().orElse(null) : parent.getTopLevelTestClass();
 	}
 
 	@Override
 	public Set<String> getTags() {
 		// return modifiable copy
-		return new LinkedHashSet<>(this.tags);
+		// @formatter:off
+		return this.testDescriptor.getTags().stream()
+				.map(TestTag::getName)
+				.collect(toCollection(LinkedHashSet::new));
+		// @formatter:on
 	}
 
 	@Override
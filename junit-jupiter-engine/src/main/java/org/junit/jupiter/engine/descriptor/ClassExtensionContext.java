@@ -102,4 +102,22 @@ final class ClassExtensionContext extends AbstractExtensionContext<ClassBasedTes
 		return getTestDescriptor().getExecutionMode();
 	}
 
+	/**
+	 * Close this context and, if it belongs to a top-level test class, release
+	 * the shared fixtures used by the class afterwards.
+	 */
+	@Override
+	public void close() {
+		try {
+			super.close();
+		}
+		finally {
+			Optional<ExtensionContext> parent = getParent();
+			if (parent.isPresent() && parent.get() instanceof JupiterEngineExtensionContext) {
+				((JupiterEngineExtensionContext) parent.get()).getSharedFixtures().classFinished(
+					getTestDescriptor().getTestClass());
+			}
+		}
+	}
+
 }
@@ -209,7 +209,7 @@ final class ExtensionUtils {
 	/**
 	 * @since 5.11
 	 */
-	private static Stream<Class<? extends Extension>> streamDeclarativeExtensionTypes(
+	static Stream<Class<? extends Extension>> streamDeclarativeExtensionTypes(
 			AnnotatedElement annotatedElement) {
 		return streamDeclarativeExtensionTypes(findRepeatableAnnotations(annotatedElement, ExtendWith.class));
 	}
@@ -26,11 +26,29 @@ import org.junit.platform.engine.support.hierarchical.Node;
  */
 final class JupiterEngineExtensionContext extends AbstractExtensionContext<JupiterEngineDescriptor> {
 
+	private final SharedFixtures sharedFixtures;
+
 	JupiterEngineExtensionContext(EngineExecutionListener engineExecutionListener,
 			JupiterEngineDescriptor testDescriptor, JupiterConfiguration configuration,
 			ExtensionRegistry extensionRegistry) {
 
 		super(null, engineExecutionListener, testDescriptor, configuration, extensionRegistry);
+		this.sharedFixtures = new SharedFixtures(testDescriptor);
+	}
+
+	@Override
+	SharedFixtures getSharedFixtures() {
+		return this.sharedFixtures;
+	}
+
+	@Override
+	public void close() {
+		try {
+			super.close();
+		}
+		finally {
+			this.sharedFixtures.close();
+		}
 	}
 
 	@Override
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.descriptor;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.extension.Extension;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Store.CloseableResource;
+import org.junit.jupiter.api.function.ThrowingConsumer;
+import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.commons.util.UnrecoverableExceptions;
+import org.junit.platform.engine.TestDescriptor;
+
+/**
+ * Reference-counted registry of the fixtures created via
+ * {@link ExtensionContext#getOrComputeSharedFixture}.
+ *
+ * <p>When a fixture is created, all top-level test classes of the
+ * {@link JupiterEngineDescriptor} that have not finished yet and declare its
+ * extension type via {@code @ExtendWith} become its users, as does each
+ * class that requests it later on. Whenever a top-level class
+ * {@linkplain #classFinished(Class) finishes}, it is removed from the users of
+ * all fixtures, and fixtures without remaining users are closed and removed.
+ *
+ * @since 5.12
+ */
+class SharedFixtures implements AutoCloseable {
+
+	private final JupiterEngineDescriptor engineDescriptor;
+	private final Set<Class<?>> finishedClasses = ConcurrentHashMap.newKeySet();
+	private final ConcurrentMap<Class<?>, ConcurrentMap<Object, Fixture>> fixtures = new ConcurrentHashMap<>();
+
+	SharedFixtures(JupiterEngineDescriptor engineDescriptor) {
+		this.engineDescriptor = engineDescriptor;
+	}
+
+	/**
+	 * Get or create the fixture for the supplied extension type and key.
+	 *
+	 * @param user the top-level test class requesting the fixture, or
+	 * {@code null} if it is requested at engine level and must therefore be
+	 * kept until the end of the test run
+	 */
+	Object getOrCompute(Class<?> user, Class<? extends Extension> extensionType, Object key,
+			Function<Object, ?> defaultCreator) {
+
+		Fixture fixture = this.fixtures.computeIfAbsent(extensionType, __ -> new ConcurrentHashMap<>()) //
+				.computeIfAbsent(key, __ -> new Fixture());
+		return fixture.getOrCompute(user, extensionType, key, defaultCreator);
+	}
+
+	/**
+	 * Release all fixtures used by the supplied top-level test class and close
+	 * those that are no longer used by any other class.
+	 */
+	void classFinished(Class<?> testClass) {
+		if (!this.finishedClasses.add(testClass)) {
+			return;
+		}
+		forEachFixture(fixture -> fixture.release(testClass));
+	}
+
+	/**
+	 * Close all fixtures that are still alive, including those requested at
+	 * engine level.
+	 */
+	@Override
+	public void close() {
+		forEachFixture(Fixture::close);
+	}
+
+	private void forEachFixture(ThrowingConsumer<Fixture> action) {
+		Throwable failure = null;
+		for (ConcurrentMap<Object, Fixture> fixturesOfExtension : this.fixtures.values()) {
+			for (Fixture fixture : fixturesOfExtension.values()) {
+				try {
+					action.accept(fixture);
+				}
+				catch (Throwable t) {
+					UnrecoverableExceptions.rethrowIfUnrecoverable(t);
+					if (failure == null) {
+						failure = t;
+					}
+					else {
+						failure.addSuppressed(t);
+					}
+				}
+			}
+		}
+		if (failure != null) {
+			throw ExceptionUtils.throwAsUncheckedException(failure);
+		}
+	}
+
+	private Set<Class<?>> findDeclaringClasses(Class<? extends Extension> extensionType) {
+		Set<Class<?>> declaringClasses = new HashSet<>();
+		for (TestDescriptor child : this.engineDescriptor.getChildren()) {
+			if (child instanceof ClassBasedTestDescriptor) {
+				Class<?> testClass = ((ClassBasedTestDescriptor) child).getTestClass();
+				if (!this.finishedClasses.contains(testClass) && declares(child, extensionType)) {
+					declaringClasses.add(testClass);
+				}
+			}
+		}
+		return declaringClasses;
+	}
+
+	private static boolean declares(TestDescriptor descriptor, Class<? extends Extension> extensionType) {
+		if (descriptor instanceof ClassBasedTestDescriptor) {
+			Class<?> testClass = ((ClassBasedTestDescriptor) descriptor).getTestClass();
+			if (ExtensionUtils.streamDeclarativeExtensionTypes(testClass).anyMatch(extensionType::isAssignableFrom)) {
+				return true;
+			}
+			return descriptor.getChildren().stream().anyMatch(child -> declares(child, extensionType));
+		}
+		return false;
+	}
+
+	/**
+	 * A single fixture; guarded by its own monitor so that creating or closing
+	 * one fixture does not block others, and a fixture is never recreated
+	 * before its predecessor has been closed.
+	 */
+	private final class Fixture {
+
+		private final Set<Class<?>> users = new HashSet<>();
+		private boolean created;
+		private boolean pinned;
+		private Object value;
+
+		synchronized Object getOrCompute(Class<?> user, Class<? extends Extension> extensionType, Object key,
+				Function<Object, ?> defaultCreator) {
+
+			if (!this.created) {
+				this.value = defaultCreator.apply(key);
+				this.created = true;
+				this.users.addAll(findDeclaringClasses(extensionType));
+			}
+			if (user == null) {
+				this.pinned = true;
+			}
+			else if (!finishedClasses.contains(user)) {
+				this.users.add(user);
+			}
+			return this.value;
+		}
+
+		synchronized void release(Class<?> user) throws Throwable {
+			if (this.users.remove(user) && this.users.isEmpty() && !this.pinned) {
+				close();
+			}
+		}
+
+		synchronized void close() throws Throwable {
+			if (!this.created) {
+				return;
+			}
+			Object value = this.value;
+			this.value = null;
+			this.created = false;
+			this.users.clear();
+			if (value instanceof CloseableResource) {
+				((CloseableResource) value).close();
+			}
+		}
+	}
+
+}
@@ -103,10 +103,13 @@ public class TestFactoryTestDescriptor extends TestMethodTestDescriptor implemen
 				int index = 1;
 				Iterator<DynamicNode> iterator = dynamicNodeStream.iterator();
 				while (iterator.hasNext()) {
-					DynamicNode dynamicNode = iterator.next();
-					Optional<JupiterTestDescriptor> descriptor = createDynamicDescriptor(this, dynamicNode, index,
-						defaultTestSource, getDynamicDescendantFilter(), configuration);
-					descriptor.ifPresent(dynamicTestExecutor::execute);
+					DynamicNode dynamicNode = Preconditions.notNull(iterator.next(),
+						"individual dynamic node must not be null");
+					if (isInCurrentShard(index)) {
+						Optional<JupiterTestDescriptor> descriptor = createDynamicDescriptor(this, dynamicNode, index,
+							defaultTestSource, getDynamicDescendantFilter(), configuration);
+						descriptor.ifPresent(dynamicTestExecutor::execute);
+					}
 					index++;
 				}
 			}
@@ -117,6 +120,10 @@ public class TestFactoryTestDescriptor extends TestMethodTestDescriptor implemen
 		});
 	}
 
+	private boolean isInCurrentShard(int index) {
+		return configuration.getInvocationShard().map(shard -> shard.contains(getUniqueId(), index)).orElse(true);
+	}
+
 	@SuppressWarnings("unchecked")
 	private Stream<DynamicNode> toDynamicNodeStream(Object testFactoryMethodResult) {
 		if (testFactoryMethodResult instanceof DynamicNode) {
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.descriptor;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.engine.config.JupiterConfiguration;
+import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.engine.EngineExecutionListener;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.reporting.FileEntry;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.engine.support.hierarchical.Node.DynamicTestExecutor;
+
+/**
+ * Executes the invocations of a {@link TestTemplateTestDescriptor} via its
+ * {@link DynamicTestExecutor}.
+ *
+ * <p>By default, invocations are handed to the executor as soon as they are
+ * provided, and their events are reported as they happen. If a maximum number
+ * of pending invocations is configured, the next invocation is only submitted
+ * once fewer invocations are pending. If that maximum is greater than one,
+ * only the events of the oldest pending invocation are reported as they
+ * happen. The events of all invocations behind it are buffered until it has
+ * finished so that the order of reported results does not depend on the
+ * order in which concurrently executed invocations finish.
+ *
+ * @since 5.12
+ * @see JupiterConfiguration#TEST_TEMPLATE_STREAMING_ENABLED_PROPERTY_NAME
+ * @see JupiterConfiguration#TEST_TEMPLATE_CONCURRENCY_PROPERTY_NAME
+ */
+class TestTemplateInvocationExecutor {
+
+	private static final int UNLIMITED = 0;
+
+	private final DynamicTestExecutor dynamicTestExecutor;
+	private final EngineExecutionListener executionListener;
+	private final int maxPendingInvocations;
+	private final Deque<PendingInvocation> pendingInvocations = new ArrayDeque<>();
+
+	static TestTemplateInvocationExecutor create(DynamicTestExecutor dynamicTestExecutor,
+			EngineExecutionListener executionListener, JupiterConfiguration configuration) {
+
+		int maxPendingInvocations = configuration.getTestTemplateConcurrency() //
+				.orElse(configuration.isTestTemplateStreamingEnabled() ? 1 : UNLIMITED);
+		return new TestTemplateInvocationExecutor(dynamicTestExecutor, executionListener, maxPendingInvocations);
+	}
+
+	private TestTemplateInvocationExecutor(DynamicTestExecutor dynamicTestExecutor,
+			EngineExecutionListener executionListener, int maxPendingInvocations) {
+
+		this.dynamicTestExecutor = dynamicTestExecutor;
+		this.executionListener = executionListener;
+		this.maxPendingInvocations = maxPendingInvocations;
+	}
+
+	void execute(TestTemplateInvocationTestDescriptor testDescriptor) {
+		if (this.maxPendingInvocations == UNLIMITED) {
+			this.dynamicTestExecutor.execute(testDescriptor);
+			return;
+		}
+		BufferingExecutionListener buffer = null;
+		EngineExecutionListener listener = this.executionListener;
+		if (this.maxPendingInvocations > 1) {
+			buffer = new BufferingExecutionListener();
+			if (this.pendingInvocations.isEmpty()) {
+				buffer.forwardTo(this.executionListener);
+			}
+			listener = buffer;
+			testDescriptor.setExecutionListener(buffer);
+		}
+		Future<?> future = this.dynamicTestExecutor.execute(testDescriptor, listener);
+		this.pendingInvocations.add(new PendingInvocation(future, buffer));
+		// wait before the next invocation context is requested from its provider
+		while (this.pendingInvocations.size() >= this.maxPendingInvocations) {
+			awaitOldestPendingInvocation();
+		}
+	}
+
+	/**
+	 * Wait for all pending invocations and report their buffered events.
+	 */
+	void awaitPendingInvocations() {
+		while (!this.pendingInvocations.isEmpty()) {
+			awaitOldestPendingInvocation();
+		}
+	}
+
+	private void awaitOldestPendingInvocation() {
+		PendingInvocation invocation = this.pendingInvocations.remove();
+		try {
+			invocation.future.get();
+		}
+		catch (CancellationException ignore) {
+			// the invocation has been cancelled and reported accordingly
+		}
+		catch (ExecutionException e) {
+			throw ExceptionUtils.throwAsUncheckedException(e.getCause());
+		}
+		catch (InterruptedException e) {
+			throw ExceptionUtils.throwAsUncheckedException(e);
+		}
+		finally {
+			PendingInvocation oldestInvocation = this.pendingInvocations.peek();
+			if (oldestInvocation != null && oldestInvocation.buffer != null) {
+				oldestInvocation.buffer.forwardTo(this.executionListener);
+			}
+		}
+	}
+
+	private static class PendingInvocation {
+
+		private final Future<?> future;
+		private final BufferingExecutionListener buffer;
+
+		PendingInvocation(Future<?> future, BufferingExecutionListener buffer) {
+			this.future = future;
+			this.buffer = buffer;
+		}
+	}
+
+	/**
+	 * Buffers the events of a single invocation until they can be reported and
+	 * forwards them as they happen from then on.
+	 */
+	private static class BufferingExecutionListener implements EngineExecutionListener {
+
+		private final List<Consumer<EngineExecutionListener>> bufferedEvents = new ArrayList<>();
+		private EngineExecutionListener delegate;
+
+		@Override
+		public void dynamicTestRegistered(TestDescriptor testDescriptor) {
+			record(listener -> listener.dynamicTestRegistered(testDescriptor));
+		}
+
+		@Override
+		public void executionSkipped(TestDescriptor testDescriptor, String reason) {
+			record(listener -> listener.executionSkipped(testDescriptor, reason));
+		}
+
+		@Override
+		public void executionStarted(TestDescriptor testDescriptor) {
+			record(listener -> listener.executionStarted(testDescriptor));
+		}
+
+		@Override
+		public void executionFinished(TestDescriptor testDescriptor, TestExecutionResult testExecutionResult) {
+			record(listener -> listener.executionFinished(testDescriptor, testExecutionResult));
+		}
+
+		@Override
+		public void reportingEntryPublished(TestDescriptor testDescriptor, ReportEntry entry) {
+			record(listener -> listener.reportingEntryPublished(testDescriptor, entry));
+		}
+
+		@Override
+		public void fileEntryPublished(TestDescriptor testDescriptor, FileEntry file) {
+			record(listener -> listener.fileEntryPublished(testDescriptor, file));
+		}
+
+		private synchronized void record(Consumer<EngineExecutionListener> event) {
+			if (this.delegate != null) {
+				event.accept(this.delegate);
+			}
+			else {
+				this.bufferedEvents.add(event);
+			}
+		}
+
+		/**
+		 * Report all buffered events to the supplied listener and forward all
+		 * subsequent events to it directly.
+		 */
+		synchronized void forwardTo(EngineExecutionListener listener) {
+			this.bufferedEvents.forEach(event -> event.accept(listener));
+			this.bufferedEvents.clear();
+			this.delegate = listener;
+		}
+	}
+
+}
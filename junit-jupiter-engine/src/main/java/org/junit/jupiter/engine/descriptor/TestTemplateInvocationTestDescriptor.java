@@ -23,7 +23,9 @@ import org.junit.jupiter.engine.config.JupiterConfiguration;
 import org.junit.jupiter.engine.execution.InterceptingExecutableInvoker.ReflectiveInterceptorCall;
 import org.junit.jupiter.engine.execution.JupiterEngineExecutionContext;
 import org.junit.jupiter.engine.extension.MutableExtensionRegistry;
+import org.junit.platform.engine.EngineExecutionListener;
 import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestExecutionResult;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.support.hierarchical.ExclusiveResource;
 
@@ -42,6 +44,7 @@ public class TestTemplateInvocationTestDescriptor extends TestMethodTestDescript
 
 	private TestTemplateInvocationContext invocationContext;
 	private final int index;
+	private EngineExecutionListener executionListener;
 
 	TestTemplateInvocationTestDescriptor(UniqueId uniqueId, Class<?> testClass, Method templateMethod,
 			TestTemplateInvocationContext invocationContext, int index, JupiterConfiguration configuration) {
@@ -62,6 +65,23 @@ public class TestTemplateInvocationTestDescriptor extends TestMethodTestDescript
 		return super.getLegacyReportingName() + "[" + index + "]";
 	}
 
+	/**
+	 * Use the supplied listener instead of the one of the enclosing context,
+	 * for example, to report entries published by this invocation to the same
+	 * listener as its other events.
+	 */
+	void setExecutionListener(EngineExecutionListener executionListener) {
+		this.executionListener = executionListener;
+	}
+
+	@Override
+	public JupiterEngineExecutionContext prepare(JupiterEngineExecutionContext context) {
+		if (this.executionListener != null) {
+			context = context.extend().withExecutionListener(this.executionListener).build();
+		}
+		return super.prepare(context);
+	}
+
 	@Override
 	protected MutableExtensionRegistry populateNewExtensionRegistry(JupiterEngineExecutionContext context) {
 		MutableExtensionRegistry registry = super.populateNewExtensionRegistry(context);
@@ -76,4 +96,19 @@ public class TestTemplateInvocationTestDescriptor extends TestMethodTestDescript
 		invocationContext = null;
 	}
 
+	@Override
+	public void nodeSkipped(JupiterEngineExecutionContext context, TestDescriptor descriptor, SkipResult result) {
+		super.nodeSkipped(context, descriptor, result);
+		// after() is not called for skipped invocations
+		invocationContext = null;
+	}
+
+	@Override
+	public void nodeFinished(JupiterEngineExecutionContext context, TestDescriptor descriptor,
+			TestExecutionResult result) {
+		super.nodeFinished(context, descriptor, result);
+		// after() is not called if preparing the invocation failed
+		invocationContext = null;
+	}
+
 }
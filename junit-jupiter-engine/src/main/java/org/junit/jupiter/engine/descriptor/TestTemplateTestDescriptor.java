@@ -72,6 +72,35 @@ public class TestTemplateTestDescriptor extends MethodBasedTestDescriptor implem
 
 	// --- Node ----------------------------------------------------------------
 
+	/**
+	 * Invocations are executed concurrently by default if a
+	 * {@linkplain JupiterConfiguration#TEST_TEMPLATE_CONCURRENCY_PROPERTY_NAME
+	 * concurrency} has been configured for test templates, unless an
+	 * enclosing class declares an execution mode for its children, e.g. via
+	 * {@code @Execution} or by using the {@code PER_CLASS} test instance
+	 * lifecycle.
+	 */
+	@Override
+	Optional<ExecutionMode> getDefaultChildExecutionMode() {
+		if (configuration.getTestTemplateConcurrency().isPresent() && !isExecutionModeDeclaredByEnclosingClass()) {
+			return Optional.of(ExecutionMode.CONCURRENT);
+		}
+		return super.getDefaultChildExecutionMode();
+	}
+
+	private boolean isExecutionModeDeclaredByEnclosingClass() {
+		Optional<TestDescriptor> parent = getParent();
+		while (parent.isPresent() && parent.get() instanceof JupiterTestDescriptor) {
+			JupiterTestDescriptor jupiterParent = (JupiterTestDescriptor) parent.get();
+			if (jupiterParent.getExplicitExecutionMode().isPresent()
+					|| jupiterParent.getDefaultChildExecutionMode().isPresent()) {
+				return true;
+			}
+			parent = jupiterParent.getParent();
+		}
+		return false;
+	}
+
 	@Override
 	public JupiterEngineExecutionContext prepare(JupiterEngineExecutionContext context) {
 		MutableExtensionRegistry registry = populateNewExtensionRegistryFromExtendWithAnnotation(
@@ -99,20 +128,27 @@ public class TestTemplateTestDescriptor extends MethodBasedTestDescriptor implem
 		List<TestTemplateInvocationContextProvider> providers = validateProviders(extensionContext,
 			context.getExtensionRegistry());
 		AtomicInteger invocationIndex = new AtomicInteger();
-		for (TestTemplateInvocationContextProvider provider : providers) {
-			executeForProvider(provider, invocationIndex, dynamicTestExecutor, extensionContext);
+		TestTemplateInvocationExecutor invocationExecutor = TestTemplateInvocationExecutor.create(
+			dynamicTestExecutor, context.getExecutionListener(), context.getConfiguration());
+		try {
+			for (TestTemplateInvocationContextProvider provider : providers) {
+				executeForProvider(provider, invocationIndex, invocationExecutor, extensionContext);
+			}
+		}
+		finally {
+			invocationExecutor.awaitPendingInvocations();
 		}
 		return context;
 	}
 
 	private void executeForProvider(TestTemplateInvocationContextProvider provider, AtomicInteger invocationIndex,
-			DynamicTestExecutor dynamicTestExecutor, ExtensionContext extensionContext) {
+			TestTemplateInvocationExecutor invocationExecutor, ExtensionContext extensionContext) {
 
 		int initialValue = invocationIndex.get();
 
 		try (Stream<TestTemplateInvocationContext> stream = invocationContexts(provider, extensionContext)) {
 			stream.forEach(invocationContext -> toTestDescriptor(invocationContext, invocationIndex.incrementAndGet()) //
-					.ifPresent(testDescriptor -> execute(dynamicTestExecutor, testDescriptor)));
+					.ifPresent(testDescriptor -> execute(invocationExecutor, testDescriptor)));
 		}
 
 		Preconditions.condition(
@@ -143,17 +179,23 @@ public class TestTemplateTestDescriptor extends MethodBasedTestDescriptor implem
 				TestTemplateInvocationContextProvider.class.getSimpleName(), getTestMethod()));
 	}
 
-	private Optional<TestDescriptor> toTestDescriptor(TestTemplateInvocationContext invocationContext, int index) {
+	private Optional<TestTemplateInvocationTestDescriptor> toTestDescriptor(
+			TestTemplateInvocationContext invocationContext, int index) {
 		UniqueId uniqueId = getUniqueId().append(TestTemplateInvocationTestDescriptor.SEGMENT_TYPE, "#" + index);
-		if (getDynamicDescendantFilter().test(uniqueId, index - 1)) {
+		if (isInCurrentShard(index) && getDynamicDescendantFilter().test(uniqueId, index - 1)) {
 			return Optional.of(new TestTemplateInvocationTestDescriptor(uniqueId, getTestClass(), getTestMethod(),
 				invocationContext, index, configuration));
 		}
 		return Optional.empty();
 	}
 
-	private void execute(DynamicTestExecutor dynamicTestExecutor, TestDescriptor testDescriptor) {
+	private void execute(TestTemplateInvocationExecutor invocationExecutor,
+			TestTemplateInvocationTestDescriptor testDescriptor) {
 		testDescriptor.setParent(this);
-		dynamicTestExecutor.execute(testDescriptor);
+		invocationExecutor.execute(testDescriptor);
+	}
+
+	private boolean isInCurrentShard(int index) {
+		return configuration.getInvocationShard().map(shard -> shard.contains(getUniqueId(), index)).orElse(true);
 	}
 }
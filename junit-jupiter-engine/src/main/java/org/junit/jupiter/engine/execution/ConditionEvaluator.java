@@ -13,10 +13,14 @@ package org.junit.jupiter.engine.execution;
 import static java.lang.String.format;
 import static org.apiguardian.api.API.Status.INTERNAL;
 
+import java.lang.reflect.AnnotatedElement;
+import java.util.Optional;
+
 import org.apiguardian.api.API;
 import org.junit.jupiter.api.extension.ConditionEvaluationResult;
 import org.junit.jupiter.api.extension.ExecutionCondition;
 import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
 import org.junit.jupiter.engine.config.JupiterConfiguration;
 import org.junit.jupiter.engine.extension.ExtensionRegistry;
 import org.junit.platform.commons.logging.Logger;
@@ -26,6 +30,11 @@ import org.junit.platform.commons.util.StringUtils;
 /**
  * {@code ConditionEvaluator} evaluates {@link ExecutionCondition} extensions.
  *
+ * <p>The results of conditions that are
+ * {@linkplain ExecutionCondition#isDeterministicPerElement() deterministic per
+ * element} are cached per condition class and annotated element in the root
+ * {@link ExtensionContext.Store} for the remainder of the execution.
+ *
  * @since 5.0
  * @see ExecutionCondition
  */
@@ -60,6 +69,19 @@ public class ConditionEvaluator {
 	}
 
 	private ConditionEvaluationResult evaluate(ExecutionCondition condition, ExtensionContext context) {
+		Optional<AnnotatedElement> element = context.getElement();
+		if (element.isPresent() && condition.isDeterministicPerElement()) {
+			// @formatter:off
+			return context.getRoot()
+					.getStore(Namespace.create(ConditionEvaluator.class, condition.getClass()))
+					.getOrComputeIfAbsent(element.get(), __ -> evaluateCondition(condition, context),
+						ConditionEvaluationResult.class);
+			// @formatter:on
+		}
+		return evaluateCondition(condition, context);
+	}
+
+	private ConditionEvaluationResult evaluateCondition(ExecutionCondition condition, ExtensionContext context) {
 		try {
 			ConditionEvaluationResult result = condition.evaluateExecutionCondition(context);
 			logResult(condition.getClass(), result, context);
@@ -14,7 +14,6 @@ import static java.util.stream.Collectors.joining;
 import static org.apiguardian.api.API.Status.INTERNAL;
 
 import java.util.List;
-import java.util.ListIterator;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apiguardian.api.API;
@@ -30,7 +29,8 @@ import org.junit.platform.commons.util.ExceptionUtils;
 public class InvocationInterceptorChain {
 
 	public <T> T invoke(Invocation<T> invocation, ExtensionRegistry extensionRegistry, InterceptorCall<T> call) {
-		List<InvocationInterceptor> interceptors = extensionRegistry.getExtensions(InvocationInterceptor.class);
+		List<InvocationInterceptor> interceptors = extensionRegistry.getUnmodifiableExtensions(
+			InvocationInterceptor.class);
 		if (interceptors.isEmpty()) {
 			return proceed(invocation);
 		}
@@ -41,22 +41,29 @@ public class InvocationInterceptorChain {
 			List<InvocationInterceptor> interceptors) {
 
 		ValidatingInvocation<T> validatingInvocation = new ValidatingInvocation<>(invocation, interceptors);
-		Invocation<T> chainedInvocation = chainInterceptors(validatingInvocation, call, interceptors);
-		T result = proceed(chainedInvocation);
+		T result = applyInterceptors(validatingInvocation, call, interceptors);
 		validatingInvocation.verifyInvokedAtLeastOnce();
 		return result;
 	}
 
-	private <T> Invocation<T> chainInterceptors(Invocation<T> invocation, InterceptorCall<T> call,
+	/**
+	 * Chain all but the outermost interceptor and apply the outermost one
+	 * directly instead of wrapping it in an {@link InterceptedInvocation} that
+	 * would immediately be proceeded.
+	 */
+	private <T> T applyInterceptors(Invocation<T> invocation, InterceptorCall<T> call,
 			List<InvocationInterceptor> interceptors) {
 
-		Invocation<T> result = invocation;
-		ListIterator<InvocationInterceptor> iterator = interceptors.listIterator(interceptors.size());
-		while (iterator.hasPrevious()) {
-			InvocationInterceptor interceptor = iterator.previous();
-			result = new InterceptedInvocation<>(result, call, interceptor);
+		Invocation<T> innerInvocation = invocation;
+		for (int i = interceptors.size() - 1; i > 0; i--) {
+			innerInvocation = new InterceptedInvocation<>(innerInvocation, call, interceptors.get(i));
+		}
+		try {
+			return call.apply(interceptors.get(0), innerInvocation);
+		}
+		catch (Throwable t) {
+			throw ExceptionUtils.throwAsUncheckedException(t);
 		}
-		return result;
 	}
 
 	private <T> T proceed(Invocation<T> invocation) {
@@ -117,7 +117,7 @@ public class JupiterEngineExecutionContext implements EngineExecutionContext {
 
 	private static final class State implements Cloneable {
 
-		final EngineExecutionListener executionListener;
+		EngineExecutionListener executionListener;
 		final JupiterConfiguration configuration;
 		TestInstancesProvider testInstancesProvider;
 		MutableExtensionRegistry extensionRegistry;
@@ -170,6 +170,14 @@ public class JupiterEngineExecutionContext implements EngineExecutionContext {
 			return this;
 		}
 
+		/**
+		 * @since 5.12
+		 */
+		public Builder withExecutionListener(EngineExecutionListener executionListener) {
+			newState().executionListener = executionListener;
+			return this;
+		}
+
 		public JupiterEngineExecutionContext build() {
 			if (newState != null) {
 				originalState = newState;
@@ -14,6 +14,7 @@ import static java.util.stream.Collectors.toCollection;
 import static org.apiguardian.api.API.Status.INTERNAL;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -50,4 +51,19 @@ public interface ExtensionRegistry {
 		return stream(extensionType).collect(toCollection(ArrayList::new));
 	}
 
+	/**
+	 * Get an unmodifiable list of all {@code Extensions} of the specified type
+	 * that are present in this registry or one of its ancestors.
+	 *
+	 * <p>In contrast to {@link #getExtensions(Class)}, the returned list may be
+	 * shared between invocations and thus avoids copying it.
+	 *
+	 * @param extensionType the type of {@link Extension} to get
+	 * @since 5.12
+	 * @see #getExtensions(Class)
+	 */
+	default <E extends Extension> List<E> getUnmodifiableExtensions(Class<E> extensionType) {
+		return Collections.unmodifiableList(getExtensions(extensionType));
+	}
+
 }
@@ -0,0 +1,318 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.extension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.extension.ExtensionContext.Store.CloseableResource;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.UnrecoverableExceptions;
+
+/**
+ * Timer for timeouts based on a hashed timing wheel.
+ *
+ * <p>Timeouts are hashed into a fixed number of buckets by the tick in which
+ * they expire. Scheduling and cancelling a timeout are therefore constant-time
+ * operations that do not require a priority queue, and cancelled timeouts are
+ * unlinked from their bucket immediately. A single watcher thread parks until
+ * the earliest deadline of all scheduled timeouts, skipping the ticks in
+ * between, and runs all tasks that expired by then as a batch. While no
+ * timeouts are scheduled, the watcher thread is idle.
+ *
+ * <p>Tasks are executed no earlier than their delay but may be executed up to
+ * one tick later.
+ *
+ * @since 5.12
+ */
+class HashedWheelTimer implements CloseableResource {
+
+	private static final Logger logger = LoggerFactory.getLogger(HashedWheelTimer.class);
+
+	private static final long DEFAULT_TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+	private static final int DEFAULT_WHEEL_SIZE = 512;
+	private static final long MAX_DELAY_NANOS = Long.MAX_VALUE / 4;
+	private static final long NO_DEADLINE = Long.MAX_VALUE;
+
+	private final Object lock = new Object();
+	private final long tickNanos;
+	private final ScheduledTimeout[] wheel;
+	private final int mask;
+	private final long startTime;
+	private final Thread watcherThread;
+
+	private long processedTick;
+	private long nextDeadlineTick = NO_DEADLINE;
+	private boolean closed;
+
+	@SuppressWarnings("unused")
+	HashedWheelTimer() {
+		this(DEFAULT_TICK_NANOS, DEFAULT_WHEEL_SIZE);
+	}
+
+	HashedWheelTimer(long tickNanos, int wheelSize) {
+		if (Integer.bitCount(wheelSize) != 1) {
+			throw new IllegalArgumentException("wheel size must be a power of two: " + wheelSize);
+		}
+		this.tickNanos = tickNanos;
+		this.wheel = new ScheduledTimeout[wheelSize];
+		this.mask = wheelSize - 1;
+		this.startTime = System.nanoTime();
+		this.watcherThread = new Thread(this::watch, "junit-jupiter-timeout-watcher");
+		this.watcherThread.setPriority(Thread.MAX_PRIORITY);
+		this.watcherThread.setDaemon(true);
+		this.watcherThread.start();
+	}
+
+	/**
+	 * Schedule the supplied task to be executed after the supplied delay.
+	 *
+	 * @return the scheduled timeout that may be used to cancel the task
+	 */
+	ScheduledTimeout schedule(Runnable task, long delay, TimeUnit unit) {
+		long delayNanos = Math.min(unit.toNanos(delay), MAX_DELAY_NANOS);
+		long deadlineNanos = System.nanoTime() - this.startTime + delayNanos;
+		long deadlineTick = (deadlineNanos + this.tickNanos - 1) / this.tickNanos;
+		ScheduledTimeout timeout = new ScheduledTimeout(task);
+		synchronized (this.lock) {
+			if (this.closed) {
+				throw new JUnitException("Timer has already been closed");
+			}
+			timeout.deadlineTick = Math.max(deadlineTick, this.processedTick + 1);
+			link(timeout);
+			if (timeout.deadlineTick < this.nextDeadlineTick) {
+				this.nextDeadlineTick = timeout.deadlineTick;
+				this.lock.notifyAll();
+			}
+		}
+		return timeout;
+	}
+
+	private void watch() {
+		List<ScheduledTimeout> expiredTimeouts = new ArrayList<>();
+		while (true) {
+			synchronized (this.lock) {
+				try {
+					if (!awaitNextDeadline()) {
+						return;
+					}
+				}
+				catch (InterruptedException e) {
+					return;
+				}
+				expireTimeouts(expiredTimeouts);
+				this.nextDeadlineTick = findNextDeadlineTick();
+			}
+			for (ScheduledTimeout timeout : expiredTimeouts) {
+				timeout.run();
+			}
+			expiredTimeouts.clear();
+		}
+	}
+
+	/**
+	 * Wait until the earliest deadline of all scheduled timeouts has been
+	 * reached; must be called while holding the lock.
+	 *
+	 * <p>Since cancelling a timeout does not update the earliest deadline, the
+	 * deadline may be reached without any timeout having expired.
+	 *
+	 * @return {@code false} if this timer has been closed
+	 */
+	private boolean awaitNextDeadline() throws InterruptedException {
+		while (!this.closed) {
+			if (this.nextDeadlineTick == NO_DEADLINE) {
+				this.lock.wait();
+				continue;
+			}
+			long remainingNanos = this.startTime + this.nextDeadlineTick * this.tickNanos - System.nanoTime();
+			if (remainingNanos <= 0) {
+				return true;
+			}
+			TimeUnit.NANOSECONDS.timedWait(this.lock, remainingNanos);
+		}
+		return false;
+	}
+
+	/**
+	 * Unlink all timeouts that expired since the last processed tick from the
+	 * wheel and add them to the supplied list; must be called while holding
+	 * the lock.
+	 */
+	private void expireTimeouts(List<ScheduledTimeout> expiredTimeouts) {
+		long currentTick = (System.nanoTime() - this.startTime) / this.tickNanos;
+		long ticksToProcess = Math.min(currentTick - this.processedTick, this.wheel.length);
+		for (long tick = currentTick - ticksToProcess + 1; tick <= currentTick; tick++) {
+			ScheduledTimeout timeout = this.wheel[(int) (tick & this.mask)];
+			while (timeout != null) {
+				ScheduledTimeout next = timeout.next;
+				if (timeout.deadlineTick <= currentTick) {
+					unlink(timeout);
+					timeout.state = ScheduledTimeout.EXPIRED;
+					expiredTimeouts.add(timeout);
+				}
+				timeout = next;
+			}
+		}
+		this.processedTick = currentTick;
+	}
+
+	/**
+	 * Find the earliest deadline tick of all timeouts in the wheel by visiting
+	 * its buckets in the order of the ticks following the last processed tick;
+	 * must be called while holding the lock.
+	 *
+	 * <p>Since all timeouts expire after the last processed tick, the search
+	 * stops at the first bucket containing a timeout that expires in the
+	 * bucket's tick of the current rotation.
+	 *
+	 * @return the earliest deadline tick or {@link #NO_DEADLINE} if no
+	 * timeouts are scheduled
+	 */
+	private long findNextDeadlineTick() {
+		long nextDeadlineTick = NO_DEADLINE;
+		for (long tick = this.processedTick + 1; tick <= this.processedTick + this.wheel.length; tick++) {
+			ScheduledTimeout timeout = this.wheel[(int) (tick & this.mask)];
+			while (timeout != null) {
+				if (timeout.deadlineTick == tick) {
+					return tick;
+				}
+				nextDeadlineTick = Math.min(nextDeadlineTick, timeout.deadlineTick);
+				timeout = timeout.next;
+			}
+		}
+		return nextDeadlineTick;
+	}
+
+	// package-private for testing purposes
+	long getProcessedTick() {
+		synchronized (this.lock) {
+			return this.processedTick;
+		}
+	}
+
+	private void link(ScheduledTimeout timeout) {
+		int bucket = (int) (timeout.deadlineTick & this.mask);
+		ScheduledTimeout head = this.wheel[bucket];
+		timeout.next = head;
+		if (head != null) {
+			head.previous = timeout;
+		}
+		this.wheel[bucket] = timeout;
+	}
+
+	private void unlink(ScheduledTimeout timeout) {
+		if (timeout.previous != null) {
+			timeout.previous.next = timeout.next;
+		}
+		else {
+			this.wheel[(int) (timeout.deadlineTick & this.mask)] = timeout.next;
+		}
+		if (timeout.next != null) {
+			timeout.next.previous = timeout.previous;
+		}
+		timeout.previous = null;
+		timeout.next = null;
+	}
+
+	@Override
+	public void close() throws Throwable {
+		synchronized (this.lock) {
+			this.closed = true;
+			this.lock.notifyAll();
+		}
+		this.watcherThread.join(TimeUnit.SECONDS.toMillis(5));
+		if (this.watcherThread.isAlive()) {
+			this.watcherThread.interrupt();
+			throw new JUnitException("Timeout watcher thread could not be stopped in an orderly manner");
+		}
+	}
+
+	/**
+	 * A task scheduled via {@link #schedule(Runnable, long, TimeUnit)}.
+	 */
+	class ScheduledTimeout {
+
+		private static final int PENDING = 0;
+		private static final int CANCELLED = 1;
+		private static final int EXPIRED = 2;
+		private static final int COMPLETED = 3;
+
+		private final Runnable task;
+
+		// guarded by HashedWheelTimer.this.lock
+		private long deadlineTick;
+		private ScheduledTimeout previous;
+		private ScheduledTimeout next;
+		private int state = PENDING;
+
+		private ScheduledTimeout(Runnable task) {
+			this.task = task;
+		}
+
+		/**
+		 * Cancel this timeout.
+		 *
+		 * <p>If the task has already expired, this method waits for it to
+		 * complete. Since the task may interrupt the calling thread, waiting is
+		 * not interruptible; the interrupt status is preserved, though.
+		 *
+		 * @return {@code true} if the timeout was cancelled before its task
+		 * was executed
+		 */
+		boolean cancel() {
+			boolean interrupted = false;
+			try {
+				synchronized (lock) {
+					if (this.state == PENDING) {
+						unlink(this);
+						this.state = CANCELLED;
+						return true;
+					}
+					while (this.state == EXPIRED) {
+						try {
+							lock.wait();
+						}
+						catch (InterruptedException e) {
+							interrupted = true;
+						}
+					}
+					return false;
+				}
+			}
+			finally {
+				if (interrupted) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		}
+
+		private void run() {
+			try {
+				this.task.run();
+			}
+			catch (Throwable t) {
+				UnrecoverableExceptions.rethrowIfUnrecoverable(t);
+				logger.warn(t, () -> "Failed to execute timeout task");
+			}
+			finally {
+				synchronized (lock) {
+					this.state = COMPLETED;
+					lock.notifyAll();
+				}
+			}
+		}
+	}
+
+}
@@ -27,6 +27,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -55,7 +56,6 @@ public class MutableExtensionRegistry implements ExtensionRegistry, ExtensionReg
 	private static final List<Extension> DEFAULT_STATELESS_EXTENSIONS = Collections.unmodifiableList(Arrays.asList(//
 		new DisabledCondition(), //
 		new AutoCloseExtension(), //
-		new TimeoutExtension(), //
 		new RepeatedTestExtension(), //
 		new TestInfoParameterResolver(), //
 		new TestReporterParameterResolver()));
@@ -69,6 +69,10 @@ public class MutableExtensionRegistry implements ExtensionRegistry, ExtensionReg
 	 * auto-detected using Java's {@link ServiceLoader} mechanism and automatically
 	 * registered after the default extensions.
 	 *
+	 * <p>Unless timeouts have been disabled via the
+	 * {@value org.junit.jupiter.api.Timeout#TIMEOUT_MODE_PROPERTY_NAME}
+	 * configuration parameter, the {@link TimeoutExtension} will be registered.
+	 *
 	 * <p>If the
 	 * {@value org.junit.jupiter.engine.Constants#EXTENSIONS_TIMEOUT_THREAD_DUMP_ENABLED_PROPERTY_NAME}
 	 * configuration parameter has been set to {@code true}, the
@@ -83,6 +87,10 @@ public class MutableExtensionRegistry implements ExtensionRegistry, ExtensionReg
 
 		DEFAULT_STATELESS_EXTENSIONS.forEach(extensionRegistry::registerDefaultExtension);
 
+		if (!TimeoutExtension.isTimeoutDisabled(configuration)) {
+			extensionRegistry.registerDefaultExtension(new TimeoutExtension());
+		}
+
 		extensionRegistry.registerDefaultExtension(new TempDirectory(configuration));
 
 		if (configuration.isExtensionAutoDetectionEnabled()) {
@@ -152,6 +160,13 @@ public class MutableExtensionRegistry implements ExtensionRegistry, ExtensionReg
 	private final List<Entry> registeredExtensions;
 	private final Map<Class<?>, LateInitExtensions> lateInitExtensions;
 
+	/**
+	 * Cache for the registered extensions of a given type in registration
+	 * order, which is cleared whenever an extension is registered or
+	 * initialized.
+	 */
+	private final Map<Class<?>, List<? extends Extension>> extensionsByType = new ConcurrentHashMap<>();
+
 	private MutableExtensionRegistry() {
 		this(emptySet(), emptyList());
 	}
@@ -179,10 +194,31 @@ public class MutableExtensionRegistry implements ExtensionRegistry, ExtensionReg
 
 	@Override
 	public <E extends Extension> Stream<E> stream(Class<E> extensionType) {
-		return this.registeredExtensions.stream() //
-				.map(p -> p.getExtension().orElse(null)) //
-				.filter(extensionType::isInstance) //
-				.map(extensionType::cast);
+		return getCachedExtensions(extensionType).stream();
+	}
+
+	@Override
+	public <E extends Extension> List<E> getExtensions(Class<E> extensionType) {
+		return new ArrayList<>(getCachedExtensions(extensionType));
+	}
+
+	@Override
+	public <E extends Extension> List<E> getUnmodifiableExtensions(Class<E> extensionType) {
+		return getCachedExtensions(extensionType);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <E extends Extension> List<E> getCachedExtensions(Class<E> extensionType) {
+		return (List<E>) this.extensionsByType.computeIfAbsent(extensionType, __ -> {
+			List<E> extensions = new ArrayList<>();
+			for (Entry entry : this.registeredExtensions) {
+				entry.getExtension() //
+						.filter(extensionType::isInstance) //
+						.map(extensionType::cast) //
+						.ifPresent(extensions::add);
+			}
+			return Collections.unmodifiableList(extensions);
+		});
 	}
 
 	@Override
@@ -224,6 +260,7 @@ public class MutableExtensionRegistry implements ExtensionRegistry, ExtensionReg
 		LateInitEntry entry = getLateInitExtensions(testClass) //
 				.add(new LateInitEntry(testClass, initializer));
 		this.registeredExtensions.add(entry);
+		this.extensionsByType.clear();
 	}
 
 	@Override
@@ -234,6 +271,7 @@ public class MutableExtensionRegistry implements ExtensionRegistry, ExtensionReg
 		LateInitExtensions extensions = lateInitExtensions.remove(testClass);
 		if (extensions != null) {
 			extensions.initialize(testInstance);
+			this.extensionsByType.clear();
 		}
 	}
 
@@ -266,6 +304,7 @@ public class MutableExtensionRegistry implements ExtensionRegistry, ExtensionReg
 
 		this.registeredExtensions.add(Entry.of(extension));
 		this.registeredExtensionTypes.add(extension.getClass());
+		this.extensionsByType.clear();
 	}
 
 	private String buildSourceInfo(Object source) {
@@ -12,11 +12,10 @@ package org.junit.jupiter.engine.extension;
 
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
 import java.util.function.Supplier;
 
 import org.junit.jupiter.api.extension.InvocationInterceptor.Invocation;
+import org.junit.jupiter.engine.extension.HashedWheelTimer.ScheduledTimeout;
 import org.junit.platform.commons.util.UnrecoverableExceptions;
 
 /**
@@ -26,15 +25,15 @@ class SameThreadTimeoutInvocation<T> implements Invocation<T> {
 
 	private final Invocation<T> delegate;
 	private final TimeoutDuration timeout;
-	private final ScheduledExecutorService executor;
+	private final HashedWheelTimer timer;
 	private final Supplier<String> descriptionSupplier;
 	private final PreInterruptCallbackInvocation preInterruptCallback;
 
-	SameThreadTimeoutInvocation(Invocation<T> delegate, TimeoutDuration timeout, ScheduledExecutorService executor,
+	SameThreadTimeoutInvocation(Invocation<T> delegate, TimeoutDuration timeout, HashedWheelTimer timer,
 			Supplier<String> descriptionSupplier, PreInterruptCallbackInvocation preInterruptCallback) {
 		this.delegate = delegate;
 		this.timeout = timeout;
-		this.executor = executor;
+		this.timer = timer;
 		this.descriptionSupplier = descriptionSupplier;
 		this.preInterruptCallback = preInterruptCallback;
 	}
@@ -42,7 +41,7 @@ class SameThreadTimeoutInvocation<T> implements Invocation<T> {
 	@Override
 	public T proceed() throws Throwable {
 		InterruptTask interruptTask = new InterruptTask(Thread.currentThread(), preInterruptCallback);
-		ScheduledFuture<?> future = executor.schedule(interruptTask, timeout.getValue(), timeout.getUnit());
+		ScheduledTimeout scheduledTimeout = timer.schedule(interruptTask, timeout.getValue(), timeout.getUnit());
 		Throwable failure = null;
 		T result = null;
 		try {
@@ -53,10 +52,7 @@ class SameThreadTimeoutInvocation<T> implements Invocation<T> {
 			failure = t;
 		}
 		finally {
-			boolean cancelled = future.cancel(false);
-			if (!cancelled) {
-				future.get();
-			}
+			scheduledTimeout.cancel();
 			if (interruptTask.executed) {
 				Thread.interrupted();
 				failure = TimeoutExceptionFactory.create(descriptionSupplier.get(), timeout, failure);
@@ -10,12 +10,15 @@
 
 package org.junit.jupiter.engine.extension;
 
-import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.platform.commons.util.ExceptionUtils.throwAsUncheckedException;
 
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Supplier;
 
 import org.junit.jupiter.api.extension.InvocationInterceptor.Invocation;
+import org.junit.jupiter.engine.extension.TimeoutThreadPool.Execution;
+import org.junit.platform.commons.JUnitException;
 
 /**
  * @since 5.9
@@ -24,25 +27,61 @@ class SeparateThreadTimeoutInvocation<T> implements Invocation<T> {
 
 	private final Invocation<T> delegate;
 	private final TimeoutDuration timeout;
+	private final TimeoutThreadPool threadPool;
 	private final Supplier<String> descriptionSupplier;
 	private final PreInterruptCallbackInvocation preInterruptCallback;
 
-	SeparateThreadTimeoutInvocation(Invocation<T> delegate, TimeoutDuration timeout,
+	SeparateThreadTimeoutInvocation(Invocation<T> delegate, TimeoutDuration timeout, TimeoutThreadPool threadPool,
 			Supplier<String> descriptionSupplier, PreInterruptCallbackInvocation preInterruptCallback) {
 		this.delegate = delegate;
 		this.timeout = timeout;
+		this.threadPool = threadPool;
 		this.descriptionSupplier = descriptionSupplier;
 		this.preInterruptCallback = preInterruptCallback;
 	}
 
 	@Override
 	public T proceed() throws Throwable {
-		return assertTimeoutPreemptively(timeout.toDuration(), delegate::proceed, descriptionSupplier,
-			(__, messageSupplier, cause, testThread) -> {
-				TimeoutException exception = TimeoutExceptionFactory.create(messageSupplier.get(), timeout, null);
-				preInterruptCallback.executePreInterruptCallback(testThread, exception::addSuppressed);
-				exception.initCause(cause);
-				return exception;
-			});
+		Execution<T> execution = threadPool.execute(() -> {
+			try {
+				return delegate.proceed();
+			}
+			catch (Throwable throwable) {
+				throw throwAsUncheckedException(throwable);
+			}
+		});
+		try {
+			return execution.get(timeout.getValue(), timeout.getUnit());
+		}
+		catch (TimeoutException ex) {
+			throw createTimeoutException(execution.getThread());
+		}
+		catch (ExecutionException ex) {
+			throw ex.getCause();
+		}
+		finally {
+			execution.release();
+		}
+	}
+
+	private TimeoutException createTimeoutException(Thread thread) {
+		ExecutionTimeoutException cause = null;
+		if (thread != null) {
+			cause = new ExecutionTimeoutException("Execution timed out in thread " + thread.getName());
+			cause.setStackTrace(thread.getStackTrace());
+		}
+		TimeoutException exception = TimeoutExceptionFactory.create(descriptionSupplier.get(), timeout, null);
+		preInterruptCallback.executePreInterruptCallback(thread, exception::addSuppressed);
+		exception.initCause(cause);
+		return exception;
+	}
+
+	private static class ExecutionTimeoutException extends JUnitException {
+
+		private static final long serialVersionUID = 1L;
+
+		ExecutionTimeoutException(String message) {
+			super(message);
+		}
 	}
 }
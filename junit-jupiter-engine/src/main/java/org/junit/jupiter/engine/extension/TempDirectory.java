@@ -11,6 +11,9 @@
 package org.junit.jupiter.engine.extension;
 
 import static java.nio.file.FileVisitResult.CONTINUE;
+import static java.nio.file.FileVisitResult.SKIP_SUBTREE;
+import static java.nio.file.LinkOption.NOFOLLOW_LINKS;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
 import static java.util.stream.Collectors.joining;
 import static org.junit.jupiter.api.extension.TestInstantiationAwareExtension.ExtensionContextScope.TEST_METHOD;
 import static org.junit.jupiter.api.io.CleanupMode.DEFAULT;
@@ -38,11 +41,18 @@ import java.nio.file.Paths;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.nio.file.attribute.DosFileAttributeView;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
 import java.util.Set;
 import java.util.SortedMap;
-import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.extension.AnnotatedElementContext;
@@ -69,6 +79,7 @@ import org.junit.platform.commons.util.ClassUtils;
 import org.junit.platform.commons.util.ExceptionUtils;
 import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.commons.util.ToStringBuilder;
+import org.junit.platform.commons.util.UnrecoverableExceptions;
 
 /**
  * {@code TempDirectory} is a JUnit Jupiter extension that creates and cleans
@@ -325,19 +336,45 @@ class TempDirectory implements BeforeAllCallback, BeforeEachCallback, ParameterR
 		@Override
 		public void close() throws IOException {
 			try {
-				if (this.cleanupMode == NEVER
-						|| (this.cleanupMode == ON_SUCCESS && selfOrChildFailed(this.extensionContext))) {
+				if (this.dir != null && Files.isDirectory(this.dir)) {
+					this.factory.beforeClose(this.dir);
+				}
+			}
+			finally {
+				cleanUp();
+			}
+		}
+
+		private void cleanUp() throws IOException {
+			if (this.cleanupMode == NEVER
+					|| (this.cleanupMode == ON_SUCCESS && selfOrChildFailed(this.extensionContext))) {
+				try {
 					logger.info(() -> String.format("Skipping cleanup of temp dir %s for %s due to CleanupMode.%s.",
 						this.dir, descriptionFor(this.annotatedElement), this.cleanupMode.name()));
-					return;
 				}
+				finally {
+					this.factory.close();
+				}
+				return;
+			}
 
-				FileOperations fileOperations = this.extensionContext.getStore(NAMESPACE) //
-						.getOrDefault(FILE_OPERATIONS_KEY, FileOperations.class, FileOperations.DEFAULT);
+			FileOperations fileOperations = this.extensionContext.getStore(NAMESPACE) //
+					.getOrDefault(FILE_OPERATIONS_KEY, FileOperations.class, FileOperations.DEFAULT);
+			Deleter deleter = Deleter.get(this.extensionContext);
 
-				SortedMap<Path, IOException> failures = deleteAllFilesAndDirectories(fileOperations);
+			Path trash = deleter.isAsynchronous() ? tryToMoveToTrash() : null;
+			if (trash != null && deleter.tryToExecute(() -> deleteAndCloseFactory(trash, fileOperations, deleter))) {
+				return;
+			}
+			deleteAndCloseFactory(trash != null ? trash : this.dir, fileOperations, deleter);
+		}
+
+		private void deleteAndCloseFactory(Path dir, FileOperations fileOperations, Deleter deleter)
+				throws IOException {
+			try {
+				SortedMap<Path, IOException> failures = deleteAllFilesAndDirectories(dir, fileOperations, deleter);
 				if (!failures.isEmpty()) {
-					throw createIOExceptionWithAttachedFailures(failures);
+					throw createIOExceptionWithAttachedFailures(dir, failures);
 				}
 			}
 			finally {
@@ -345,6 +382,28 @@ class TempDirectory implements BeforeAllCallback, BeforeEachCallback, ParameterR
 			}
 		}
 
+		/**
+		 * Try to rename the temp dir to a sibling trash directory so it can be
+		 * deleted asynchronously.
+		 *
+		 * @return the trash directory or {@code null} if the temp dir could not
+		 * be renamed
+		 * @since 5.12
+		 */
+		private Path tryToMoveToTrash() {
+			if (this.dir == null || this.dir.getFileName() == null || !Files.isDirectory(this.dir, NOFOLLOW_LINKS)) {
+				return null;
+			}
+			Path trash = this.dir.resolveSibling(this.dir.getFileName() + ".trash");
+			try {
+				return Files.move(this.dir, trash, ATOMIC_MOVE);
+			}
+			catch (IOException | UnsupportedOperationException e) {
+				logger.debug(e, () -> "Failed to move temp dir " + this.dir + " to trash; deleting it synchronously.");
+				return null;
+			}
+		}
+
 		/**
 		 * @since 5.12
 		 */
@@ -372,90 +431,143 @@ class TempDirectory implements BeforeAllCallback, BeforeEachCallback, ParameterR
 				ClassUtils.nullSafeToString(Class::getSimpleName, executable.getParameterTypes()));
 		}
 
-		private SortedMap<Path, IOException> deleteAllFilesAndDirectories(FileOperations fileOperations)
-				throws IOException {
+		private static SortedMap<Path, IOException> deleteAllFilesAndDirectories(Path dir,
+				FileOperations fileOperations, Deleter deleter) throws IOException {
 
-			if (this.dir == null || Files.notExists(this.dir)) {
+			if (dir == null || Files.notExists(dir)) {
 				return Collections.emptySortedMap();
 			}
 
-			SortedMap<Path, IOException> failures = new TreeMap<>();
-			Set<Path> retriedPaths = new HashSet<>();
-			tryToResetPermissions(this.dir);
-			Files.walkFileTree(this.dir, new SimpleFileVisitor<Path>() {
+			SortedMap<Path, IOException> failures = new ConcurrentSkipListMap<>();
+			Set<Path> retriedPaths = ConcurrentHashMap.newKeySet();
+			tryToResetPermissions(dir);
+			Files.walkFileTree(dir, new DeletingFileVisitor(dir, fileOperations, deleter, failures, retriedPaths));
+			return failures;
+		}
 
-				@Override
-				public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
-					if (!dir.equals(CloseablePath.this.dir)) {
-						tryToResetPermissions(dir);
+		/**
+		 * Deletes all files and directories of a directory tree.
+		 *
+		 * <p>If the tree is deleted asynchronously, subdirectories of the
+		 * directory the visitor was created for are deleted in parallel by
+		 * separate visitors if the {@link Deleter} accepts them; the directory
+		 * itself is deleted once all of them have completed. Otherwise, the
+		 * tree is walked sequentially.
+		 */
+		private static class DeletingFileVisitor extends SimpleFileVisitor<Path> {
+
+			private final Path startDir;
+			private final FileOperations fileOperations;
+			private final Deleter deleter;
+			private final SortedMap<Path, IOException> failures;
+			private final Set<Path> retriedPaths;
+			private final List<ForkJoinTask<?>> subdirectoryDeletions = new ArrayList<>();
+
+			DeletingFileVisitor(Path startDir, FileOperations fileOperations, Deleter deleter,
+					SortedMap<Path, IOException> failures, Set<Path> retriedPaths) {
+				this.startDir = startDir;
+				this.fileOperations = fileOperations;
+				this.deleter = deleter;
+				this.failures = failures;
+				this.retriedPaths = retriedPaths;
+			}
+
+			@Override
+			public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+				if (!dir.equals(this.startDir)) {
+					tryToResetPermissions(dir);
+					ForkJoinTask<?> deletion = this.deleter.tryToFork(() -> walk(dir));
+					if (deletion != null) {
+						this.subdirectoryDeletions.add(deletion);
+						return SKIP_SUBTREE;
 					}
-					return CONTINUE;
 				}
+				return CONTINUE;
+			}
 
-				@Override
-				public FileVisitResult visitFileFailed(Path file, IOException exc) {
-					if (exc instanceof NoSuchFileException) {
-						return CONTINUE;
-					}
-					// IOException includes `AccessDeniedException` thrown by non-readable or non-executable flags
-					resetPermissionsAndTryToDeleteAgain(file, exc);
+			@Override
+			public FileVisitResult visitFileFailed(Path file, IOException exc) {
+				if (exc instanceof NoSuchFileException) {
 					return CONTINUE;
 				}
+				// IOException includes `AccessDeniedException` thrown by non-readable or non-executable flags
+				resetPermissionsAndTryToDeleteAgain(file, exc);
+				return CONTINUE;
+			}
 
-				@Override
-				public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
-					return deleteAndContinue(file);
-				}
+			@Override
+			public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+				return deleteAndContinue(file);
+			}
 
-				@Override
-				public FileVisitResult postVisitDirectory(Path dir, IOException exc) {
-					return deleteAndContinue(dir);
+			@Override
+			public FileVisitResult postVisitDirectory(Path dir, IOException exc) {
+				if (dir.equals(this.startDir)) {
+					this.subdirectoryDeletions.forEach(ForkJoinTask::join);
 				}
+				return deleteAndContinue(dir);
+			}
 
-				private FileVisitResult deleteAndContinue(Path path) {
-					try {
-						fileOperations.delete(path);
-					}
-					catch (NoSuchFileException ignore) {
-						// ignore
-					}
-					catch (DirectoryNotEmptyException exception) {
-						failures.put(path, exception);
-					}
-					catch (IOException exception) {
-						// IOException includes `AccessDeniedException` thrown by non-readable or non-executable flags
-						resetPermissionsAndTryToDeleteAgain(path, exception);
-					}
-					return CONTINUE;
+			private FileVisitResult deleteAndContinue(Path path) {
+				try {
+					this.fileOperations.delete(path);
+				}
+				catch (NoSuchFileException ignore) {
+					// ignore
+				}
+				catch (DirectoryNotEmptyException exception) {
+					this.failures.put(path, exception);
 				}
+				catch (IOException exception) {
+					// IOException includes `AccessDeniedException` thrown by non-readable or non-executable flags
+					resetPermissionsAndTryToDeleteAgain(path, exception);
+				}
+				return CONTINUE;
+			}
 
-				private void resetPermissionsAndTryToDeleteAgain(Path path, IOException exception) {
-					boolean notYetRetried = retriedPaths.add(path);
-					if (notYetRetried) {
-						try {
-							tryToResetPermissions(path);
-							if (Files.isDirectory(path)) {
-								Files.walkFileTree(path, this);
-							}
-							else {
-								fileOperations.delete(path);
-							}
+			private void resetPermissionsAndTryToDeleteAgain(Path path, IOException exception) {
+				boolean notYetRetried = this.retriedPaths.add(path);
+				if (notYetRetried) {
+					try {
+						tryToResetPermissions(path);
+						if (Files.isDirectory(path)) {
+							Files.walkFileTree(path, newVisitor(path));
 						}
-						catch (Exception suppressed) {
-							exception.addSuppressed(suppressed);
-							failures.put(path, exception);
+						else {
+							this.fileOperations.delete(path);
 						}
 					}
-					else {
-						failures.put(path, exception);
+					catch (Exception suppressed) {
+						exception.addSuppressed(suppressed);
+						this.failures.put(path, exception);
 					}
 				}
-			});
-			return failures;
+				else {
+					this.failures.put(path, exception);
+				}
+			}
+
+			private void walk(Path dir) {
+				try {
+					Files.walkFileTree(dir, newVisitor(dir));
+				}
+				catch (IOException exception) {
+					this.failures.put(dir, exception);
+				}
+			}
+
+			private DeletingFileVisitor newVisitor(Path startDir) {
+				return new DeletingFileVisitor(startDir, this.fileOperations, this.deleter, this.failures,
+					this.retriedPaths);
+			}
 		}
 
 		@SuppressWarnings("ResultOfMethodCallIgnored")
 		private static void tryToResetPermissions(Path path) {
+			if (isHardLinkedFile(path)) {
+				// Other links, e.g. in the template directory of a `TempDirFactory.Seeded`, share its permissions
+				return;
+			}
 			File file;
 			try {
 				file = path.toFile();
@@ -480,21 +592,32 @@ class TempDirectory implements BeforeAllCallback, BeforeEachCallback, ParameterR
 			}
 		}
 
-		private IOException createIOExceptionWithAttachedFailures(SortedMap<Path, IOException> failures) {
+		private static boolean isHardLinkedFile(Path path) {
+			try {
+				return Files.isRegularFile(path, NOFOLLOW_LINKS)
+						&& ((Number) Files.getAttribute(path, "unix:nlink", NOFOLLOW_LINKS)).intValue() > 1;
+			}
+			catch (IOException | UnsupportedOperationException | IllegalArgumentException ignore) {
+				return false;
+			}
+		}
+
+		private static IOException createIOExceptionWithAttachedFailures(Path dir,
+				SortedMap<Path, IOException> failures) {
 			Path emptyPath = Paths.get("");
 			String joinedPaths = failures.keySet().stream() //
-					.map(this::tryToDeleteOnExit) //
-					.map(this::relativizeSafely) //
+					.map(CloseablePath::tryToDeleteOnExit) //
+					.map(path -> relativizeSafely(dir, path)) //
 					.map(path -> emptyPath.equals(path) ? "<root>" : path.toString()) //
 					.collect(joining(", "));
-			IOException exception = new IOException("Failed to delete temp directory " + this.dir.toAbsolutePath()
+			IOException exception = new IOException("Failed to delete temp directory " + dir.toAbsolutePath()
 					+ ". The following paths could not be deleted (see suppressed exceptions for details): "
 					+ joinedPaths);
 			failures.values().forEach(exception::addSuppressed);
 			return exception;
 		}
 
-		private Path tryToDeleteOnExit(Path path) {
+		private static Path tryToDeleteOnExit(Path path) {
 			try {
 				path.toFile().deleteOnExit();
 			}
@@ -503,9 +626,9 @@ class TempDirectory implements BeforeAllCallback, BeforeEachCallback, ParameterR
 			return path;
 		}
 
-		private Path relativizeSafely(Path path) {
+		private static Path relativizeSafely(Path dir, Path path) {
 			try {
-				return this.dir.relativize(path);
+				return dir.relativize(path);
 			}
 			catch (IllegalArgumentException e) {
 				return path;
@@ -513,6 +636,129 @@ class TempDirectory implements BeforeAllCallback, BeforeEachCallback, ParameterR
 		}
 	}
 
+	/**
+	 * Deletes temp dirs, optionally asynchronously, in which case their
+	 * subdirectories are deleted in parallel.
+	 *
+	 * <p>Stored in the root {@link ExtensionContext.Store Store}; closing it
+	 * waits for all asynchronous deletions to complete and reports their
+	 * failures.
+	 *
+	 * @since 5.12
+	 */
+	static class Deleter implements CloseableResource {
+
+		static Deleter get(ExtensionContext context) {
+			return context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(Deleter.class,
+				__ -> new Deleter(context.getConfigurationParameter(TempDir.ASYNC_CLEANUP_ENABLED_PROPERTY_NAME,
+					Boolean::parseBoolean).orElse(false)),
+				Deleter.class);
+		}
+
+		private final boolean asynchronous;
+		private final Queue<ForkJoinTask<?>> asynchronousDeletions = new ConcurrentLinkedQueue<>();
+		private final Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+
+		private volatile ForkJoinPool pool;
+		private volatile boolean closed;
+
+		Deleter(boolean asynchronous) {
+			this.asynchronous = asynchronous;
+		}
+
+		boolean isAsynchronous() {
+			return this.asynchronous;
+		}
+
+		/**
+		 * Try to execute the supplied deletion asynchronously.
+		 *
+		 * @return {@code true} if the deletion will be executed asynchronously
+		 */
+		boolean tryToExecute(Deletion deletion) {
+			ForkJoinTask<?> task = ForkJoinTask.adapt(() -> {
+				try {
+					deletion.delete();
+				}
+				catch (Throwable t) {
+					UnrecoverableExceptions.rethrowIfUnrecoverable(t);
+					this.failures.add(t);
+				}
+			});
+			if (tryToSubmit(task)) {
+				this.asynchronousDeletions.add(task);
+				return true;
+			}
+			return false;
+		}
+
+		/**
+		 * Try to fork the supplied deletion of a subdirectory.
+		 *
+		 * <p>Deletions are only forked if the calling thread is already
+		 * executing an asynchronous deletion so that synchronous deletions
+		 * neither spawn tasks nor create the pool.
+		 *
+		 * @return the forked task or {@code null} if it should be executed by
+		 * the calling thread instead
+		 */
+		ForkJoinTask<?> tryToFork(Runnable deletion) {
+			ForkJoinPool pool = this.pool;
+			if (pool == null || ForkJoinTask.getPool() != pool || this.closed) {
+				return null;
+			}
+			return ForkJoinTask.adapt(deletion).fork();
+		}
+
+		private boolean tryToSubmit(ForkJoinTask<?> task) {
+			if (this.closed) {
+				return false;
+			}
+			try {
+				getOrCreatePool().execute(task);
+				return true;
+			}
+			catch (RejectedExecutionException e) {
+				return false;
+			}
+		}
+
+		private ForkJoinPool getOrCreatePool() {
+			ForkJoinPool pool = this.pool;
+			if (pool == null) {
+				synchronized (this) {
+					pool = this.pool;
+					if (pool == null) {
+						pool = this.pool = new ForkJoinPool();
+					}
+				}
+			}
+			return pool;
+		}
+
+		@Override
+		public void close() throws Throwable {
+			this.closed = true;
+			this.asynchronousDeletions.forEach(ForkJoinTask::quietlyJoin);
+			ForkJoinPool pool = this.pool;
+			if (pool != null) {
+				pool.shutdown();
+			}
+			Throwable failure = this.failures.poll();
+			if (failure != null) {
+				this.failures.forEach(failure::addSuppressed);
+				throw failure;
+			}
+		}
+
+		interface Deletion {
+
+			void delete() throws IOException;
+
+		}
+
+	}
+
 	enum Scope {
 
 		PER_CONTEXT,
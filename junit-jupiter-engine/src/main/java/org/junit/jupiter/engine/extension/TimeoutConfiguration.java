@@ -21,9 +21,11 @@ import static org.junit.jupiter.api.Timeout.DEFAULT_TEST_METHOD_TIMEOUT_PROPERTY
 import static org.junit.jupiter.api.Timeout.DEFAULT_TEST_TEMPLATE_METHOD_TIMEOUT_PROPERTY_NAME;
 import static org.junit.jupiter.api.Timeout.DEFAULT_TIMEOUT_PROPERTY_NAME;
 import static org.junit.jupiter.api.Timeout.DEFAULT_TIMEOUT_THREAD_MODE_PROPERTY_NAME;
+import static org.junit.jupiter.api.Timeout.TIMEOUT_THREAD_POOL_MODE_PROPERTY_NAME;
 import static org.junit.jupiter.api.Timeout.ThreadMode.SAME_THREAD;
 import static org.junit.jupiter.api.Timeout.ThreadMode.SEPARATE_THREAD;
 
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
@@ -45,6 +47,7 @@ class TimeoutConfiguration {
 	private final TimeoutDurationParser parser = new TimeoutDurationParser();
 	private final Map<String, Optional<TimeoutDuration>> cache = new ConcurrentHashMap<>();
 	private final AtomicReference<Optional<ThreadMode>> threadMode = new AtomicReference<>();
+	private final AtomicReference<TimeoutThreadPool.Mode> threadPoolMode = new AtomicReference<>();
 	private final ExtensionContext extensionContext;
 
 	TimeoutConfiguration(ExtensionContext extensionContext) {
@@ -143,4 +146,30 @@ class TimeoutConfiguration {
 			}
 		});
 	}
+
+	TimeoutThreadPool.Mode getTimeoutThreadPoolMode() {
+		if (threadPoolMode.get() != null) {
+			return threadPoolMode.get();
+		}
+		else {
+			TimeoutThreadPool.Mode configuredThreadPoolMode = parseTimeoutThreadPoolModeConfiguration();
+			threadPoolMode.set(configuredThreadPoolMode);
+			return configuredThreadPoolMode;
+		}
+	}
+
+	private TimeoutThreadPool.Mode parseTimeoutThreadPoolModeConfiguration() {
+		return extensionContext.getConfigurationParameter(TIMEOUT_THREAD_POOL_MODE_PROPERTY_NAME).map(value -> {
+			try {
+				return TimeoutThreadPool.Mode.valueOf(value.trim().toUpperCase(Locale.ROOT));
+			}
+			catch (Exception e) {
+				logger.warn(e,
+					() -> String.format(
+						"Invalid timeout thread pool mode '%s' set via the '%s' configuration parameter.", value,
+						TIMEOUT_THREAD_POOL_MODE_PROPERTY_NAME));
+				return null;
+			}
+		}).orElse(TimeoutThreadPool.Mode.DISABLED);
+	}
 }
@@ -26,6 +26,7 @@ import org.junit.jupiter.api.extension.ExtensionConfigurationException;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.InvocationInterceptor;
 import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+import org.junit.jupiter.engine.config.JupiterConfiguration;
 import org.junit.jupiter.engine.extension.TimeoutInvocationFactory.TimeoutInvocationParameters;
 import org.junit.platform.commons.support.AnnotationSupport;
 import org.junit.platform.commons.util.ClassUtils;
@@ -181,7 +182,8 @@ class TimeoutExtension implements BeforeAllCallback, BeforeEachCallback, Invocat
 		}
 
 		ThreadMode threadMode = resolveTimeoutThreadMode(extensionContext);
-		return new TimeoutInvocationFactory(extensionContext.getRoot().getStore(NAMESPACE)).create(threadMode,
+		return new TimeoutInvocationFactory(extensionContext.getRoot().getStore(NAMESPACE),
+			getGlobalTimeoutConfiguration(extensionContext).getTimeoutThreadPoolMode()).create(threadMode,
 			new TimeoutInvocationParameters<>(invocation, timeout, () -> describe(invocationContext, extensionContext),
 				PreInterruptCallbackInvocationFactory.create((ExtensionContextInternal) extensionContext)));
 	}
@@ -207,27 +209,43 @@ class TimeoutExtension implements BeforeAllCallback, BeforeEachCallback, Invocat
 		return ReflectionUtils.getFullyQualifiedMethodName(invocationContext.getTargetClass(), method);
 	}
 
+	/**
+	 * Determine if timeouts are disabled for the entire execution based on the
+	 * supplied configuration.
+	 *
+	 * <p>Unsupported modes are not reported here but rather when a timeout is
+	 * about to be applied.
+	 */
+	static boolean isTimeoutDisabled(JupiterConfiguration configuration) {
+		return configuration.getRawConfigurationParameter(TIMEOUT_MODE_PROPERTY_NAME) //
+				.flatMap(TimeoutExtension::isTimeoutDisabledForMode) //
+				.orElse(false);
+	}
+
 	/**
 	 * Determine if timeouts are disabled for the supplied extension context.
 	 */
 	private boolean isTimeoutDisabled(ExtensionContext extensionContext) {
 		Optional<String> mode = extensionContext.getConfigurationParameter(TIMEOUT_MODE_PROPERTY_NAME);
-		return mode.map(this::isTimeoutDisabled).orElse(false);
+		return mode.map(it -> isTimeoutDisabledForMode(it).orElseThrow(
+			() -> new ExtensionConfigurationException("Unsupported timeout mode: " + it))).orElse(false);
 	}
 
 	/**
 	 * Determine if timeouts are disabled for the supplied mode.
+	 *
+	 * @return empty if the mode is not supported
 	 */
-	private boolean isTimeoutDisabled(String mode) {
+	private static Optional<Boolean> isTimeoutDisabledForMode(String mode) {
 		switch (mode) {
 			case ENABLED_MODE_VALUE:
-				return false;
+				return Optional.of(false);
 			case DISABLED_MODE_VALUE:
-				return true;
+				return Optional.of(true);
 			case DISABLED_ON_DEBUG_MODE_VALUE:
-				return RuntimeUtils.isDebugMode();
+				return Optional.of(RuntimeUtils.isDebugMode());
 			default:
-				throw new ExtensionConfigurationException("Unsupported timeout mode: " + mode);
+				return Optional.empty();
 		}
 	}
 
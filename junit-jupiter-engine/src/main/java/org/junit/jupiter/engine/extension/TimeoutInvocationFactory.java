@@ -10,16 +10,11 @@
 
 package org.junit.jupiter.engine.extension;
 
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 import org.junit.jupiter.api.Timeout.ThreadMode;
 import org.junit.jupiter.api.extension.ExtensionContext.Store;
-import org.junit.jupiter.api.extension.ExtensionContext.Store.CloseableResource;
 import org.junit.jupiter.api.extension.InvocationInterceptor.Invocation;
-import org.junit.platform.commons.JUnitException;
 import org.junit.platform.commons.util.Preconditions;
 
 /**
@@ -28,9 +23,11 @@ import org.junit.platform.commons.util.Preconditions;
 class TimeoutInvocationFactory {
 
 	private final Store store;
+	private final TimeoutThreadPool.Mode threadPoolMode;
 
-	TimeoutInvocationFactory(Store store) {
+	TimeoutInvocationFactory(Store store, TimeoutThreadPool.Mode threadPoolMode) {
 		this.store = Preconditions.notNull(store, "store must not be null");
+		this.threadPoolMode = Preconditions.notNull(threadPoolMode, "thread pool mode must not be null");
 	}
 
 	<T> Invocation<T> create(ThreadMode threadMode, TimeoutInvocationParameters<T> timeoutInvocationParameters) {
@@ -39,52 +36,23 @@ class TimeoutInvocationFactory {
 		Preconditions.notNull(timeoutInvocationParameters, "timeout invocation parameters must not be null");
 		if (threadMode == ThreadMode.SEPARATE_THREAD) {
 			return new SeparateThreadTimeoutInvocation<>(timeoutInvocationParameters.getInvocation(),
-				timeoutInvocationParameters.getTimeoutDuration(), timeoutInvocationParameters.getDescriptionSupplier(),
+				timeoutInvocationParameters.getTimeoutDuration(), getThreadPoolForSeparateThreadInvocation(),
+				timeoutInvocationParameters.getDescriptionSupplier(),
 				timeoutInvocationParameters.getPreInterruptCallback());
 		}
 		return new SameThreadTimeoutInvocation<>(timeoutInvocationParameters.getInvocation(),
-			timeoutInvocationParameters.getTimeoutDuration(), getThreadExecutorForSameThreadInvocation(),
+			timeoutInvocationParameters.getTimeoutDuration(), getTimerForSameThreadInvocation(),
 			timeoutInvocationParameters.getDescriptionSupplier(),
 			timeoutInvocationParameters.getPreInterruptCallback());
 	}
 
-	private ScheduledExecutorService getThreadExecutorForSameThreadInvocation() {
-		return store.getOrComputeIfAbsent(SingleThreadExecutorResource.class).get();
+	private HashedWheelTimer getTimerForSameThreadInvocation() {
+		return store.getOrComputeIfAbsent(HashedWheelTimer.class);
 	}
 
-	private static abstract class ExecutorResource implements CloseableResource {
-
-		protected final ScheduledExecutorService executor;
-
-		ExecutorResource(ScheduledExecutorService executor) {
-			this.executor = executor;
-		}
-
-		ScheduledExecutorService get() {
-			return executor;
-		}
-
-		@Override
-		public void close() throws Throwable {
-			executor.shutdown();
-			boolean terminated = executor.awaitTermination(5, TimeUnit.SECONDS);
-			if (!terminated) {
-				executor.shutdownNow();
-				throw new JUnitException("Scheduled executor could not be stopped in an orderly manner");
-			}
-		}
-	}
-
-	static class SingleThreadExecutorResource extends ExecutorResource {
-
-		@SuppressWarnings("unused")
-		SingleThreadExecutorResource() {
-			super(Executors.newSingleThreadScheduledExecutor(runnable -> {
-				Thread thread = new Thread(runnable, "junit-jupiter-timeout-watcher");
-				thread.setPriority(Thread.MAX_PRIORITY);
-				return thread;
-			}));
-		}
+	private TimeoutThreadPool getThreadPoolForSeparateThreadInvocation() {
+		return store.getOrComputeIfAbsent(TimeoutThreadPool.class, __ -> new TimeoutThreadPool(threadPoolMode),
+			TimeoutThreadPool.class);
 	}
 
 	static class TimeoutInvocationParameters<T> {
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.extension;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedTransferQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Timeout.ThreadMode;
+import org.junit.jupiter.api.extension.ExtensionContext.Store.CloseableResource;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.ReflectionUtils;
+
+/**
+ * Provides threads for invocations executed with the
+ * {@link ThreadMode#SEPARATE_THREAD SEPARATE_THREAD} timeout thread mode.
+ *
+ * <p>Depending on its {@link Mode}, this pool starts a new platform thread for
+ * each execution, reuses idle platform threads, or starts a new virtual thread
+ * for each execution.
+ *
+ * <p>A pooled thread is only reused after its execution has completed. If an
+ * execution is {@linkplain Execution#release() released} while it is still
+ * running &mdash; for example, because it timed out &mdash; it is cancelled,
+ * its thread is interrupted, and the thread is abandoned: it terminates as
+ * soon as the execution returns instead of being reused. Before a thread is
+ * reused, its interrupt status is cleared and its name, priority, context
+ * class loader, and uncaught exception handler are reset. Since values of
+ * thread-local variables cannot be cleared, pooled threads do not inherit
+ * values of inheritable thread-local variables from the thread that started
+ * them on Java 9 and later, and pooling must be enabled explicitly.
+ *
+ * @since 5.12
+ */
+class TimeoutThreadPool implements CloseableResource {
+
+	private static final Logger logger = LoggerFactory.getLogger(TimeoutThreadPool.class);
+
+	private static final long KEEP_ALIVE_SECONDS = 30;
+	private static final AtomicInteger threadNumber = new AtomicInteger(1);
+
+	private static final Constructor<Thread> NON_INHERITING_THREAD_CONSTRUCTOR = findNonInheritingThreadConstructor();
+	private static final Method START_VIRTUAL_THREAD_METHOD = findStartVirtualThreadMethod();
+
+	/**
+	 * Supported modes of {@link TimeoutThreadPool}.
+	 */
+	enum Mode {
+
+		/**
+		 * Start a new platform thread for each execution.
+		 */
+		DISABLED,
+
+		/**
+		 * Reuse idle platform threads.
+		 */
+		PLATFORM,
+
+		/**
+		 * Start a new virtual thread for each execution.
+		 */
+		VIRTUAL
+
+	}
+
+	private final Mode mode;
+	private final LinkedTransferQueue<Execution<?>> handoff = new LinkedTransferQueue<>();
+	private final Set<Thread> pooledThreads = ConcurrentHashMap.newKeySet();
+
+	private volatile boolean closed;
+
+	TimeoutThreadPool(Mode mode) {
+		if (mode == Mode.VIRTUAL && START_VIRTUAL_THREAD_METHOD == null) {
+			logger.warn(() -> "Virtual threads are not supported by the current JVM; "
+					+ "starting a new platform thread for each invocation instead.");
+			mode = Mode.DISABLED;
+		}
+		this.mode = mode;
+	}
+
+	/**
+	 * Execute the supplied callable in a separate thread.
+	 *
+	 * @return the execution that must be {@linkplain Execution#release()
+	 * released} once the caller stops waiting for it
+	 */
+	<T> Execution<T> execute(Callable<T> callable) {
+		if (this.closed) {
+			throw new JUnitException("Thread pool has already been closed");
+		}
+		Execution<T> execution = new Execution<>(callable);
+		switch (this.mode) {
+			case PLATFORM:
+				if (!this.handoff.tryTransfer(execution)) {
+					startPooledThread(execution);
+				}
+				break;
+			case VIRTUAL:
+				ReflectionUtils.invokeMethod(START_VIRTUAL_THREAD_METHOD, null, (Runnable) () -> {
+					Thread.currentThread().setName(nextThreadName());
+					execution.run();
+				});
+				break;
+			default:
+				new Thread(execution, nextThreadName()).start();
+		}
+		return execution;
+	}
+
+	private void startPooledThread(Execution<?> firstExecution) {
+		Runnable worker = () -> work(firstExecution);
+		String name = nextThreadName();
+		Thread thread = NON_INHERITING_THREAD_CONSTRUCTOR == null ? new Thread(worker, name)
+				: ReflectionUtils.newInstance(NON_INHERITING_THREAD_CONSTRUCTOR, null, worker, name, 0L, false);
+		thread.setDaemon(true);
+		this.pooledThreads.add(thread);
+		thread.start();
+	}
+
+	private void work(Execution<?> firstExecution) {
+		Thread thread = Thread.currentThread();
+		String name = thread.getName();
+		int priority = thread.getPriority();
+		ClassLoader contextClassLoader = thread.getContextClassLoader();
+		try {
+			Execution<?> execution = firstExecution;
+			while (execution != null) {
+				thread.setContextClassLoader(execution.contextClassLoader);
+				execution.run();
+				if (execution.isCancelled()) {
+					return;
+				}
+				Thread.interrupted();
+				thread.setName(name);
+				thread.setPriority(priority);
+				thread.setContextClassLoader(contextClassLoader);
+				thread.setUncaughtExceptionHandler(null);
+				if (this.closed) {
+					return;
+				}
+				execution = this.handoff.poll(KEEP_ALIVE_SECONDS, TimeUnit.SECONDS);
+			}
+		}
+		catch (InterruptedException ignore) {
+			// closed while idle
+		}
+		finally {
+			this.pooledThreads.remove(thread);
+		}
+	}
+
+	int getIdleThreadCount() {
+		return this.handoff.getWaitingConsumerCount();
+	}
+
+	@Override
+	public void close() {
+		this.closed = true;
+		this.pooledThreads.forEach(Thread::interrupt);
+	}
+
+	private static String nextThreadName() {
+		return "junit-timeout-thread-" + threadNumber.getAndIncrement();
+	}
+
+	private static Constructor<Thread> findNonInheritingThreadConstructor() {
+		try {
+			// Java 9+
+			return Thread.class.getConstructor(ThreadGroup.class, Runnable.class, String.class, long.class,
+				boolean.class);
+		}
+		catch (NoSuchMethodException e) {
+			return null;
+		}
+	}
+
+	private static Method findStartVirtualThreadMethod() {
+		// Java 21+
+		return ReflectionUtils.tryToGetMethod(Thread.class, "startVirtualThread", Runnable.class).toOptional().orElse(
+			null);
+	}
+
+	/**
+	 * An execution started via {@link #execute(Callable)}.
+	 */
+	static class Execution<T> extends FutureTask<T> {
+
+		private final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+
+		private volatile Thread thread;
+
+		private Execution(Callable<T> callable) {
+			super(callable);
+		}
+
+		@Override
+		public void run() {
+			this.thread = Thread.currentThread();
+			super.run();
+		}
+
+		/**
+		 * Get the thread this execution was started in, if any.
+		 */
+		Thread getThread() {
+			return this.thread;
+		}
+
+		/**
+		 * Release this execution.
+		 *
+		 * <p>If it is still running, it is cancelled and its thread is
+		 * interrupted and will not be reused.
+		 */
+		void release() {
+			cancel(true);
+		}
+	}
+
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.params;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.junit.platform.commons.support.conversion.ConversionSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH benchmarks for converting the {@code String} values of CSV-driven
+ * parameterized tests into the declared parameter types.
+ *
+ * @since 5.12
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 1, time = 2)
+@Measurement(iterations = 3, time = 2)
+public class CsvArgumentConversionBenchmarks {
+
+	private static final Class<?>[] COLUMN_TYPES = { int.class, long.class, double.class, boolean.class,
+			String.class, LocalDate.class, UUID.class };
+
+	@Param({ "1000", "100000" })
+	private int numberOfRows;
+
+	List<String[]> rows;
+
+	@Setup
+	public void setUp() {
+		rows = IntStream.range(0, numberOfRows) //
+				.mapToObj(i -> new String[] { String.valueOf(i), String.valueOf(i * 1_000_000L), i + ".5",
+						String.valueOf(i % 2 == 0), "value" + i, LocalDate.ofEpochDay(i).toString(),
+						new UUID(i, i).toString() }) //
+				.toList();
+	}
+
+	@Benchmark
+	public void convertRows(Blackhole blackhole) {
+		ClassLoader classLoader = getClass().getClassLoader();
+		for (String[] row : rows) {
+			for (int column = 0; column < row.length; column++) {
+				blackhole.consume(ConversionSupport.convert(row[column], COLUMN_TYPES[column], classLoader));
+			}
+		}
+	}
+
+}
@@ -33,33 +33,52 @@ public class ParameterizedTestNameFormatterBenchmarks {
 	@Param({ "1", "2", "4", "10", "100", "1000" })
 	private int numberOfParameters;
 
+	@Param({ "1", "20" })
+	private int argumentsPerInvocation;
+
+	@Param({ "default", "arguments", "argumentsWithNames", "indexed", "messageFormat" })
+	private String pattern;
+
 	List<? extends Arguments> argumentsList;
 
 	@Setup
 	public void setUp() {
 		argumentsList = IntStream.range(0, numberOfParameters) //
-				.mapToObj(i -> Arguments.argumentSet(String.valueOf(i), i)) //
+				.mapToObj(i -> Arguments.argumentSet(String.valueOf(i), IntStream.range(0, argumentsPerInvocation) //
+						.mapToObj(j -> "argument" + (i + j)) //
+						.toArray())) //
 				.toList();
 	}
 
 	@Benchmark
 	public void formatTestNames(Blackhole blackhole) throws Exception {
-		var method = TestCase.class.getDeclaredMethod("parameterizedTest", int.class);
-		var formatter = new ParameterizedTestNameFormatter(
-			ParameterizedTest.DISPLAY_NAME_PLACEHOLDER + " " + ParameterizedTest.DEFAULT_DISPLAY_NAME + " ({0})",
-			"displayName", new ParameterizedTestMethodContext(method, method.getAnnotation(ParameterizedTest.class)),
-			512);
+		var method = TestCase.class.getDeclaredMethod("parameterizedTest", String.class, String.class);
+		var formatter = new ParameterizedTestNameFormatter(namePattern(), "displayName",
+			new ParameterizedTestMethodContext(method, method.getAnnotation(ParameterizedTest.class)), 512);
 		for (int i = 0; i < argumentsList.size(); i++) {
 			Arguments arguments = argumentsList.get(i);
 			blackhole.consume(formatter.format(i, arguments, arguments.get()));
 		}
 	}
 
+	private String namePattern() {
+		return switch (pattern) {
+			case "default" -> ParameterizedTest.DISPLAY_NAME_PLACEHOLDER + " "
+					+ ParameterizedTest.DEFAULT_DISPLAY_NAME + " ({0})";
+			case "arguments" -> ParameterizedTest.INDEX_PLACEHOLDER + " " + ParameterizedTest.ARGUMENTS_PLACEHOLDER;
+			case "argumentsWithNames" -> ParameterizedTest.INDEX_PLACEHOLDER + " "
+					+ ParameterizedTest.ARGUMENTS_WITH_NAMES_PLACEHOLDER;
+			case "indexed" -> "{0} and {1} [{0}]";
+			case "messageFormat" -> "'{0}' {0} and {1}";
+			default -> throw new IllegalArgumentException(pattern);
+		};
+	}
+
 	@SuppressWarnings("JUnitMalformedDeclaration")
 	static class TestCase {
 		@SuppressWarnings("unused")
 		@ParameterizedTest
-		void parameterizedTest(int param) {
+		void parameterizedTest(String first, String second) {
 		}
 	}
 }
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.params.provider;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH benchmarks for reading the arguments of a {@link CsvFileSource} from
+ * plain and gzip-compressed files, sequentially and in parallel chunks.
+ *
+ * @since 5.12
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 1, time = 2)
+@Measurement(iterations = 3, time = 2)
+public class CsvFileArgumentsProviderBenchmarks {
+
+	@Param({ "100000" })
+	private int numberOfRows;
+
+	@Param({ "false", "true" })
+	private boolean compressed;
+
+	@Param({ "1", "4" })
+	private int parsingParallelism;
+
+	private Path csvFile;
+	private CsvFileSource annotation;
+	private ExtensionContext context;
+
+	@Setup
+	public void setUp() throws IOException {
+		csvFile = Files.createTempFile("benchmark", compressed ? ".csv.gz" : ".csv");
+		try (OutputStream out = Files.newOutputStream(csvFile);
+				Writer writer = new OutputStreamWriter(compressed ? new GZIPOutputStream(out) : out, UTF_8)) {
+			writer.write("ID, NAME, AMOUNT, DESCRIPTION\n");
+			for (int i = 0; i < numberOfRows; i++) {
+				writer.write(i + ", name" + i + ", " + i + ".5, \"quoted, description " + i + "\"\n");
+			}
+		}
+		annotation = csvFileSource(csvFile.toAbsolutePath().toString());
+		context = extensionContext(String.valueOf(parsingParallelism));
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(csvFile);
+	}
+
+	@Benchmark
+	public void readArguments(Blackhole blackhole) {
+		CsvFileArgumentsProvider provider = new CsvFileArgumentsProvider();
+		try (Stream<? extends Arguments> arguments = provider.provideArguments(context, annotation)) {
+			arguments.forEach(blackhole::consume);
+		}
+	}
+
+	private static CsvFileSource csvFileSource(String file) {
+		return (CsvFileSource) Proxy.newProxyInstance(CsvFileSource.class.getClassLoader(),
+			new Class<?>[] { CsvFileSource.class }, (proxy, method, args) -> {
+				switch (method.getName()) {
+					case "files":
+						return new String[] { file };
+					case "numLinesToSkip":
+						return 1;
+					case "annotationType":
+						return CsvFileSource.class;
+					case "toString":
+						return "@CsvFileSource(files = " + file + ")";
+					default:
+						return method.getDefaultValue();
+				}
+			});
+	}
+
+	@SuppressWarnings("unchecked")
+	private static ExtensionContext extensionContext(String parsingParallelism) {
+		return (ExtensionContext) Proxy.newProxyInstance(ExtensionContext.class.getClassLoader(),
+			new Class<?>[] { ExtensionContext.class }, (proxy, method, args) -> {
+				if (method.getName().equals("getConfigurationParameter") && args.length == 2) {
+					return Optional.of(parsingParallelism).map((Function<String, ?>) args[1]);
+				}
+				throw new UnsupportedOperationException(method.getName());
+			});
+	}
+
+}
@@ -10,7 +10,6 @@
 
 package org.junit.jupiter.params;
 
-import static java.util.stream.Collectors.joining;
 import static org.junit.jupiter.params.ParameterizedTest.ARGUMENTS_PLACEHOLDER;
 import static org.junit.jupiter.params.ParameterizedTest.ARGUMENTS_WITH_NAMES_PLACEHOLDER;
 import static org.junit.jupiter.params.ParameterizedTest.ARGUMENT_SET_NAME_OR_ARGUMENTS_WITH_NAMES_PLACEHOLDER;
@@ -28,9 +27,6 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
-import java.util.function.Function;
 import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Named;
@@ -38,15 +34,19 @@ import org.junit.jupiter.api.extension.ExtensionConfigurationException;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.Arguments.ArgumentSet;
 import org.junit.platform.commons.JUnitException;
-import org.junit.platform.commons.util.StringUtils;
 
 /**
  * @since 5.0
  */
 class ParameterizedTestNameFormatter {
 
+	private static final int INITIAL_EXPECTED_LENGTH = 32;
+
 	private final PartialFormatter[] partialFormatters;
 
+	// benign data race: only used as a capacity hint
+	private int expectedLength = INITIAL_EXPECTED_LENGTH;
+
 	ParameterizedTestNameFormatter(String pattern, String displayName, ParameterizedTestMethodContext methodContext,
 			int argumentMaxLength) {
 		try {
@@ -73,10 +73,12 @@ class ParameterizedTestNameFormatter {
 	private String formatSafely(int invocationIndex, Arguments arguments, Object[] consumedArguments) {
 		ArgumentsContext context = new ArgumentsContext(invocationIndex, arguments,
 			extractNamedArguments(consumedArguments));
-		StringBuffer result = new StringBuffer(); // used instead of StringBuilder so MessageFormat can append directly
+		StringBuilder result = new StringBuilder(this.expectedLength);
 		for (PartialFormatter partialFormatter : this.partialFormatters) {
 			partialFormatter.append(context, result);
 		}
+		// remember the length so that subsequent invocations rarely have to grow the buffer
+		this.expectedLength = Math.max(this.expectedLength, result.length());
 		return result.toString();
 	}
 
@@ -130,25 +132,28 @@ class ParameterizedTestNameFormatter {
 	}
 
 	private static PartialFormatter determineNonPlaceholderFormatter(String segment, int argumentMaxLength) {
-		return segment.contains("{") //
-				? new MessageFormatPartialFormatter(segment, argumentMaxLength) //
-				: (context, result) -> result.append(segment);
+		if (!segment.contains("{")) {
+			return (context, result) -> result.append(segment);
+		}
+		// always parse via MessageFormat to report invalid patterns
+		MessageFormatPartialFormatter messageFormatPartialFormatter = new MessageFormatPartialFormatter(segment,
+			argumentMaxLength);
+		PartialFormatter compiledFormatter = IndexedArgumentsPartialFormatter.compile(segment, argumentMaxLength);
+		return compiledFormatter != null ? compiledFormatter : messageFormatPartialFormatter;
 	}
 
 	private PartialFormatters createPartialFormatters(String displayName, ParameterizedTestMethodContext methodContext,
 			int argumentMaxLength) {
 
-		PartialFormatter argumentsWithNamesFormatter = new CachingByArgumentsLengthPartialFormatter(
-			length -> new MessageFormatPartialFormatter(argumentsWithNamesPattern(length, methodContext),
-				argumentMaxLength));
+		PartialFormatter argumentsWithNamesFormatter = new ArgumentsListPartialFormatter(
+			parameterNamePrefixes(methodContext), argumentMaxLength);
 
 		PartialFormatters formatters = new PartialFormatters();
 		formatters.put(INDEX_PLACEHOLDER, PartialFormatter.INDEX);
 		formatters.put(DISPLAY_NAME_PLACEHOLDER, (context, result) -> result.append(displayName));
 		formatters.put(ARGUMENT_SET_NAME_PLACEHOLDER, PartialFormatter.ARGUMENT_SET_NAME);
 		formatters.put(ARGUMENTS_WITH_NAMES_PLACEHOLDER, argumentsWithNamesFormatter);
-		formatters.put(ARGUMENTS_PLACEHOLDER, new CachingByArgumentsLengthPartialFormatter(
-			length -> new MessageFormatPartialFormatter(argumentsPattern(length), argumentMaxLength)));
+		formatters.put(ARGUMENTS_PLACEHOLDER, new ArgumentsListPartialFormatter(new String[0], argumentMaxLength));
 		formatters.put(ARGUMENT_SET_NAME_OR_ARGUMENTS_WITH_NAMES_PLACEHOLDER, (context, result) -> {
 			PartialFormatter formatterToUse = context.arguments instanceof ArgumentSet //
 					? PartialFormatter.ARGUMENT_SET_NAME //
@@ -158,17 +163,10 @@ class ParameterizedTestNameFormatter {
 		return formatters;
 	}
 
-	private static String argumentsWithNamesPattern(int length, ParameterizedTestMethodContext methodContext) {
-		return IntStream.range(0, length) //
-				.mapToObj(index -> methodContext.getParameterName(index).map(name -> name + "=").orElse("") + "{"
-						+ index + "}") //
-				.collect(joining(", "));
-	}
-
-	private static String argumentsPattern(int length) {
-		return IntStream.range(0, length) //
-				.mapToObj(index -> "{" + index + "}") //
-				.collect(joining(", "));
+	private static String[] parameterNamePrefixes(ParameterizedTestMethodContext methodContext) {
+		return IntStream.range(0, methodContext.getParameterCount()) //
+				.mapToObj(index -> methodContext.getParameterName(index).map(name -> name + "=").orElse("")) //
+				.toArray(String[]::new);
 	}
 
 	private static class PlaceholderPosition {
@@ -211,14 +209,11 @@ class ParameterizedTestNameFormatter {
 			result.append(((ArgumentSet) context.arguments).getName());
 		};
 
-		void append(ArgumentsContext context, StringBuffer result);
+		void append(ArgumentsContext context, StringBuilder result);
 	}
 
 	private static class MessageFormatPartialFormatter implements PartialFormatter {
 
-		@SuppressWarnings("UnnecessaryUnicodeEscape")
-		private static final char ELLIPSIS = '\u2026';
-
 		private final MessageFormat messageFormat;
 		private final int argumentMaxLength;
 
@@ -227,10 +222,15 @@ class ParameterizedTestNameFormatter {
 			this.argumentMaxLength = argumentMaxLength;
 		}
 
-		// synchronized because MessageFormat is not thread-safe
 		@Override
-		public synchronized void append(ArgumentsContext context, StringBuffer result) {
-			this.messageFormat.format(makeReadable(context.consumedArguments), result, new FieldPosition(0));
+		public void append(ArgumentsContext context, StringBuilder result) {
+			Object[] readableArguments = makeReadable(context.consumedArguments);
+			StringBuffer buffer = new StringBuffer();
+			// synchronized because MessageFormat is not thread-safe
+			synchronized (this) {
+				this.messageFormat.format(readableArguments, buffer, new FieldPosition(0));
+			}
+			result.append(buffer);
 		}
 
 		private Object[] makeReadable(Object[] arguments) {
@@ -238,32 +238,115 @@ class ParameterizedTestNameFormatter {
 			Object[] result = Arrays.copyOf(arguments, Math.min(arguments.length, formats.length), Object[].class);
 			for (int i = 0; i < result.length; i++) {
 				if (formats[i] == null) {
-					result[i] = truncateIfExceedsMaxLength(StringUtils.nullSafeToString(arguments[i]));
+					result[i] = TruncatingArgumentFormatter.format(arguments[i], this.argumentMaxLength);
 				}
 			}
 			return result;
 		}
+	}
 
-		private String truncateIfExceedsMaxLength(String argument) {
-			if (argument != null && argument.length() > this.argumentMaxLength) {
-				return argument.substring(0, this.argumentMaxLength - 1) + ELLIPSIS;
+	/**
+	 * Formats all arguments as a comma-separated list, optionally prefixed by
+	 * the names of their parameters, without going through
+	 * {@link MessageFormat}.
+	 */
+	private static class ArgumentsListPartialFormatter implements PartialFormatter {
+
+		private final String[] parameterNamePrefixes;
+		private final int argumentMaxLength;
+
+		ArgumentsListPartialFormatter(String[] parameterNamePrefixes, int argumentMaxLength) {
+			this.parameterNamePrefixes = parameterNamePrefixes;
+			this.argumentMaxLength = argumentMaxLength;
+		}
+
+		@Override
+		public void append(ArgumentsContext context, StringBuilder result) {
+			Object[] arguments = context.consumedArguments;
+			for (int i = 0; i < arguments.length; i++) {
+				if (i > 0) {
+					result.append(", ");
+				}
+				if (i < this.parameterNamePrefixes.length) {
+					result.append(this.parameterNamePrefixes[i]);
+				}
+				TruncatingArgumentFormatter.appendTo(arguments[i], this.argumentMaxLength, result);
 			}
-			return argument;
 		}
 	}
 
-	private static class CachingByArgumentsLengthPartialFormatter implements PartialFormatter {
+	/**
+	 * Formats a segment that only consists of literal text and indexed
+	 * placeholders without format types such as {@code {0}}, which are
+	 * formatted exactly like {@link MessageFormat} would format them.
+	 */
+	private static class IndexedArgumentsPartialFormatter implements PartialFormatter {
 
-		private final ConcurrentMap<Integer, PartialFormatter> cache = new ConcurrentHashMap<>(1);
-		private final Function<Integer, PartialFormatter> factory;
+		private final String[] literals;
+		private final int[] argumentIndexes;
+		private final int argumentMaxLength;
 
-		CachingByArgumentsLengthPartialFormatter(Function<Integer, PartialFormatter> factory) {
-			this.factory = factory;
+		/**
+		 * Compile the supplied segment, or return {@code null} if it requires
+		 * {@link MessageFormat}, e.g. because it contains quotes or format
+		 * types.
+		 */
+		static IndexedArgumentsPartialFormatter compile(String segment, int argumentMaxLength) {
+			if (segment.indexOf('\'') >= 0) {
+				return null;
+			}
+			List<String> literals = new ArrayList<>();
+			List<Integer> argumentIndexes = new ArrayList<>();
+			int start = 0;
+			int open;
+			while ((open = segment.indexOf('{', start)) >= 0) {
+				int close = segment.indexOf('}', open);
+				if (close < 0 || close == open + 1 || close - open > 10) {
+					return null;
+				}
+				for (int i = open + 1; i < close; i++) {
+					char c = segment.charAt(i);
+					if (c < '0' || c > '9') {
+						return null;
+					}
+				}
+				String literal = segment.substring(start, open);
+				if (literal.indexOf('}') >= 0) {
+					return null;
+				}
+				literals.add(literal);
+				argumentIndexes.add(Integer.parseInt(segment.substring(open + 1, close)));
+				start = close + 1;
+			}
+			String tail = segment.substring(start);
+			if (tail.indexOf('}') >= 0) {
+				return null;
+			}
+			literals.add(tail);
+			return new IndexedArgumentsPartialFormatter(literals.toArray(new String[0]),
+				argumentIndexes.stream().mapToInt(Integer::intValue).toArray(), argumentMaxLength);
+		}
+
+		private IndexedArgumentsPartialFormatter(String[] literals, int[] argumentIndexes, int argumentMaxLength) {
+			this.literals = literals;
+			this.argumentIndexes = argumentIndexes;
+			this.argumentMaxLength = argumentMaxLength;
 		}
 
 		@Override
-		public void append(ArgumentsContext context, StringBuffer result) {
-			cache.computeIfAbsent(context.consumedArguments.length, factory).append(context, result);
+		public void append(ArgumentsContext context, StringBuilder result) {
+			Object[] arguments = context.consumedArguments;
+			for (int i = 0; i < this.argumentIndexes.length; i++) {
+				result.append(this.literals[i]);
+				int argumentIndex = this.argumentIndexes[i];
+				if (argumentIndex < arguments.length) {
+					TruncatingArgumentFormatter.appendTo(arguments[argumentIndex], this.argumentMaxLength, result);
+				}
+				else {
+					result.append('{').append(argumentIndex).append('}');
+				}
+			}
+			result.append(this.literals[this.literals.length - 1]);
 		}
 	}
 
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.params;
+
+import java.lang.reflect.Array;
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.platform.commons.util.StringUtils;
+import org.junit.platform.commons.util.UnrecoverableExceptions;
+
+/**
+ * Formats arguments for display names like
+ * {@link StringUtils#nullSafeToString(Object)} but truncates the result to a
+ * maximum length.
+ *
+ * <p>Arrays as well as collections and maps that use the {@code toString()}
+ * implementation of {@link AbstractCollection} or {@link AbstractMap} are
+ * formatted element by element, and formatting stops as soon as the maximum
+ * length has been exceeded. Thus, the cost of formatting huge arrays and
+ * collections is bounded by the maximum length rather than their size.
+ *
+ * @since 5.12
+ */
+class TruncatingArgumentFormatter {
+
+	@SuppressWarnings("UnnecessaryUnicodeEscape")
+	private static final char ELLIPSIS = '\u2026';
+
+	private static final ClassValue<Boolean> usesDefaultToString = new ClassValue<Boolean>() {
+		@Override
+		protected Boolean computeValue(Class<?> type) {
+			try {
+				Class<?> declaringClass = type.getMethod("toString").getDeclaringClass();
+				return declaringClass == AbstractCollection.class || declaringClass == AbstractMap.class;
+			}
+			catch (NoSuchMethodException e) {
+				return false;
+			}
+		}
+	};
+
+	private TruncatingArgumentFormatter() {
+		/* no-op */
+	}
+
+	static String format(Object argument, int maxLength) {
+		StringBuilder result = new StringBuilder();
+		appendTo(argument, maxLength, result);
+		return result.toString();
+	}
+
+	static void appendTo(Object argument, int maxLength, StringBuilder result) {
+		int start = result.length();
+		int limit = start + maxLength;
+		try {
+			append(argument, limit, result, null);
+		}
+		catch (Throwable throwable) {
+			UnrecoverableExceptions.rethrowIfUnrecoverable(throwable);
+			result.setLength(start);
+			result.append(StringUtils.defaultToString(argument));
+		}
+		if (result.length() > limit) {
+			result.setLength(limit - 1);
+			result.append(ELLIPSIS);
+		}
+	}
+
+	private static void append(Object object, int limit, StringBuilder result, Set<Object[]> enclosingArrays) {
+		if (object == null) {
+			result.append("null");
+		}
+		else if (object instanceof Object[]) {
+			appendObjectArray((Object[]) object, limit, result, enclosingArrays);
+		}
+		else if (object.getClass().isArray()) {
+			appendPrimitiveArray(object, limit, result);
+		}
+		else if (object instanceof Collection && usesDefaultToString.get(object.getClass())) {
+			appendCollection((Collection<?>) object, limit, result);
+		}
+		else if (object instanceof Map && usesDefaultToString.get(object.getClass())) {
+			appendMap((Map<?, ?>) object, limit, result);
+		}
+		else {
+			String string = object.toString();
+			result.append(string != null ? string : "null");
+		}
+	}
+
+	/**
+	 * Analogous to {@link java.util.Arrays#deepToString(Object[])}.
+	 */
+	private static void appendObjectArray(Object[] array, int limit, StringBuilder result,
+			Set<Object[]> enclosingArrays) {
+
+		Set<Object[]> arrays = enclosingArrays != null ? enclosingArrays
+				: Collections.newSetFromMap(new IdentityHashMap<>());
+		arrays.add(array);
+		result.append('[');
+		for (int i = 0; i < array.length && result.length() <= limit; i++) {
+			if (i > 0) {
+				result.append(", ");
+			}
+			Object element = array[i];
+			if (element instanceof Object[]) {
+				if (arrays.contains(element)) {
+					result.append("[...]");
+				}
+				else {
+					appendObjectArray((Object[]) element, limit, result, arrays);
+				}
+			}
+			else if (element != null && element.getClass().isArray()) {
+				appendPrimitiveArray(element, limit, result);
+			}
+			else {
+				result.append(element);
+			}
+		}
+		result.append(']');
+		arrays.remove(array);
+	}
+
+	/**
+	 * Analogous to the {@code toString()} methods in {@link java.util.Arrays}.
+	 */
+	private static void appendPrimitiveArray(Object array, int limit, StringBuilder result) {
+		int length = Array.getLength(array);
+		result.append('[');
+		for (int i = 0; i < length && result.length() <= limit; i++) {
+			if (i > 0) {
+				result.append(", ");
+			}
+			result.append(Array.get(array, i));
+		}
+		result.append(']');
+	}
+
+	/**
+	 * Analogous to {@link AbstractCollection#toString()}.
+	 */
+	private static void appendCollection(Collection<?> collection, int limit, StringBuilder result) {
+		result.append('[');
+		boolean first = true;
+		for (Object element : collection) {
+			if (result.length() > limit) {
+				break;
+			}
+			if (!first) {
+				result.append(", ");
+			}
+			first = false;
+			result.append(element == collection ? "(this Collection)" : element);
+		}
+		result.append(']');
+	}
+
+	/**
+	 * Analogous to {@link AbstractMap#toString()}.
+	 */
+	private static void appendMap(Map<?, ?> map, int limit, StringBuilder result) {
+		result.append('{');
+		boolean first = true;
+		for (Map.Entry<?, ?> entry : map.entrySet()) {
+			if (result.length() > limit) {
+				break;
+			}
+			if (!first) {
+				result.append(", ");
+			}
+			first = false;
+			Object key = entry.getKey();
+			Object value = entry.getValue();
+			result.append(key == map ? "(this Map)" : key).append('=').append(value == map ? "(this Map)" : value);
+		}
+		result.append('}');
+	}
+
+}
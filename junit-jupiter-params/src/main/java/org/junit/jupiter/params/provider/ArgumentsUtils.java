@@ -12,6 +12,12 @@ package org.junit.jupiter.params.provider;
 
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import org.junit.platform.commons.util.CollectionUtils;
 import org.junit.platform.commons.util.ReflectionUtils;
 
 /**
@@ -25,6 +31,38 @@ final class ArgumentsUtils {
 		/* no-op */
 	}
 
+	/**
+	 * Convert the supplied object into a {@link Stream} of {@link Arguments}.
+	 *
+	 * <p>Arrays and streams of {@code int}, {@code long}, and {@code double}
+	 * values are mapped to {@code Arguments} directly instead of being boxed
+	 * into an intermediate {@code Stream} first. All other objects are
+	 * converted via {@link CollectionUtils#toStream(Object)}.
+	 *
+	 * @since 5.12
+	 */
+	static Stream<Arguments> toArgumentsStream(Object source) {
+		if (source instanceof int[]) {
+			return IntStream.of((int[]) source).mapToObj(Arguments::arguments);
+		}
+		if (source instanceof long[]) {
+			return LongStream.of((long[]) source).mapToObj(Arguments::arguments);
+		}
+		if (source instanceof double[]) {
+			return DoubleStream.of((double[]) source).mapToObj(Arguments::arguments);
+		}
+		if (source instanceof IntStream) {
+			return ((IntStream) source).mapToObj(Arguments::arguments);
+		}
+		if (source instanceof LongStream) {
+			return ((LongStream) source).mapToObj(Arguments::arguments);
+		}
+		if (source instanceof DoubleStream) {
+			return ((DoubleStream) source).mapToObj(Arguments::arguments);
+		}
+		return CollectionUtils.toStream(source).map(ArgumentsUtils::toArguments);
+	}
+
 	/**
 	 * Convert the supplied object into an {@link Arguments} instance.
 	 */
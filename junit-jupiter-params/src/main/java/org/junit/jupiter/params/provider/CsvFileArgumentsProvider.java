@@ -21,15 +21,19 @@ import static org.junit.platform.commons.util.CollectionUtils.toSet;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.PushbackInputStream;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.Spliterator;
 import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
 
 import com.univocity.parsers.csv.CsvParser;
 
@@ -43,10 +47,29 @@ import org.junit.platform.commons.util.Preconditions;
  */
 class CsvFileArgumentsProvider extends AnnotationBasedArgumentsProvider<CsvFileSource> {
 
+	/**
+	 * Property name used to configure the number of threads used to parse
+	 * each CSV file: {@value}
+	 *
+	 * <p>If set to a value greater than {@code 1}, files configured via
+	 * {@link CsvFileSource#files()} that use an ASCII-compatible encoding and
+	 * are not gzip-compressed are memory-mapped and parsed concurrently in
+	 * chunks of complete records.
+	 *
+	 * <p>Defaults to {@code 1}.
+	 *
+	 * @since 5.12
+	 */
+	static final String PARSING_PARALLELISM_PROPERTY_NAME = "junit.jupiter.params.csv.file.parsing.parallelism";
+
+	private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
 	private final InputStreamProvider inputStreamProvider;
+	private final int chunkSize;
 
 	private Charset charset;
 	private int numLinesToSkip;
+	private int parsingParallelism;
 	private CsvParser csvParser;
 
 	CsvFileArgumentsProvider() {
@@ -54,13 +77,19 @@ class CsvFileArgumentsProvider extends AnnotationBasedArgumentsProvider<CsvFileS
 	}
 
 	CsvFileArgumentsProvider(InputStreamProvider inputStreamProvider) {
+		this(inputStreamProvider, ParallelCsvFileReader.DEFAULT_CHUNK_SIZE);
+	}
+
+	CsvFileArgumentsProvider(InputStreamProvider inputStreamProvider, int chunkSize) {
 		this.inputStreamProvider = inputStreamProvider;
+		this.chunkSize = chunkSize;
 	}
 
 	@Override
 	protected Stream<? extends Arguments> provideArguments(ExtensionContext context, CsvFileSource csvFileSource) {
 		this.charset = getCharsetFrom(csvFileSource);
 		this.numLinesToSkip = csvFileSource.numLinesToSkip();
+		this.parsingParallelism = getParsingParallelism(context);
 		this.csvParser = createParserFor(csvFileSource);
 
 		Stream<Source> resources = Arrays.stream(csvFileSource.resources()).map(inputStreamProvider::classpathResource);
@@ -70,12 +99,28 @@ class CsvFileArgumentsProvider extends AnnotationBasedArgumentsProvider<CsvFileS
 		// @formatter:off
 		return Preconditions.notEmpty(sources, "Resources or files must not be empty")
 				.stream()
-				.map(source -> source.open(context))
-				.map(inputStream -> beginParsing(inputStream, csvFileSource))
-				.flatMap(parser -> toStream(parser, csvFileSource));
+				.flatMap(source -> parse(source, context, csvFileSource));
 		// @formatter:on
 	}
 
+	private int getParsingParallelism(ExtensionContext context) {
+		int parallelism = context.getConfigurationParameter(PARSING_PARALLELISM_PROPERTY_NAME, Integer::parseInt) //
+				.orElse(1);
+		Preconditions.condition(parallelism > 0, () -> String.format(
+			"Invalid value for configuration parameter '%s': %d; must be greater than zero",
+			PARSING_PARALLELISM_PROPERTY_NAME, parallelism));
+		return parallelism;
+	}
+
+	private Stream<Arguments> parse(Source source, ExtensionContext context, CsvFileSource csvFileSource) {
+		Optional<Path> file = source.getFile();
+		if (file.isPresent() && this.parsingParallelism > 1
+				&& ParallelCsvFileReader.supports(this.charset, csvFileSource) && !isGzipCompressed(file.get())) {
+			return parseInParallel(file.get(), csvFileSource);
+		}
+		return toStream(beginParsing(source.open(context), csvFileSource), csvFileSource);
+	}
+
 	private Charset getCharsetFrom(CsvFileSource csvFileSource) {
 		try {
 			return Charset.forName(csvFileSource.encoding());
@@ -87,7 +132,7 @@ class CsvFileArgumentsProvider extends AnnotationBasedArgumentsProvider<CsvFileS
 
 	private CsvParser beginParsing(InputStream inputStream, CsvFileSource csvFileSource) {
 		try {
-			this.csvParser.beginParsing(inputStream, this.charset);
+			this.csvParser.beginParsing(decompressIfNecessary(inputStream), this.charset);
 		}
 		catch (Throwable throwable) {
 			handleCsvException(throwable, csvFileSource);
@@ -95,6 +140,42 @@ class CsvFileArgumentsProvider extends AnnotationBasedArgumentsProvider<CsvFileS
 		return this.csvParser;
 	}
 
+	/**
+	 * Wrap the supplied input stream in a {@link GZIPInputStream} if it starts
+	 * with the gzip header.
+	 */
+	private static InputStream decompressIfNecessary(InputStream inputStream) throws IOException {
+		PushbackInputStream pushbackInputStream = new PushbackInputStream(inputStream, 2);
+		byte[] header = new byte[2];
+		int length = 0;
+		while (length < header.length) {
+			int count = pushbackInputStream.read(header, length, header.length - length);
+			if (count == -1) {
+				break;
+			}
+			length += count;
+		}
+		pushbackInputStream.unread(header, 0, length);
+		if (length == header.length && isGzipHeader(header)) {
+			return new GZIPInputStream(pushbackInputStream, GZIP_BUFFER_SIZE);
+		}
+		return pushbackInputStream;
+	}
+
+	private static boolean isGzipCompressed(Path file) {
+		try (InputStream inputStream = Files.newInputStream(file)) {
+			byte[] header = new byte[2];
+			return inputStream.read(header) == header.length && isGzipHeader(header);
+		}
+		catch (IOException e) {
+			throw new JUnitException("File [" + file + "] could not be read", e);
+		}
+	}
+
+	private static boolean isGzipHeader(byte[] header) {
+		return ((header[0] & 0xFF) | ((header[1] & 0xFF) << 8)) == GZIPInputStream.GZIP_MAGIC;
+	}
+
 	private Stream<Arguments> toStream(CsvParser csvParser, CsvFileSource csvFileSource) {
 		CsvParserIterator iterator = new CsvParserIterator(csvParser, csvFileSource);
 		return stream(spliteratorUnknownSize(iterator, Spliterator.ORDERED), false) //
@@ -109,6 +190,34 @@ class CsvFileArgumentsProvider extends AnnotationBasedArgumentsProvider<CsvFileS
 				});
 	}
 
+	private Stream<Arguments> parseInParallel(Path file, CsvFileSource csvFileSource) {
+		ParallelCsvFileReader reader = ParallelCsvFileReader.open(file, csvFileSource, this.charset,
+			this.parsingParallelism, this.chunkSize);
+		Set<String> nullValues = toSet(csvFileSource.nullValues());
+		boolean useHeadersInDisplayName = csvFileSource.useHeadersInDisplayName();
+		Iterator<Arguments> iterator = new Iterator<Arguments>() {
+
+			@Override
+			public boolean hasNext() {
+				try {
+					return reader.hasNext();
+				}
+				catch (Throwable throwable) {
+					throw handleCsvException(throwable, csvFileSource);
+				}
+			}
+
+			@Override
+			public Arguments next() {
+				String[] csvRecord = reader.next();
+				return processCsvRecord(csvRecord, nullValues, useHeadersInDisplayName, reader.getHeaders());
+			}
+		};
+		return stream(spliteratorUnknownSize(iterator, Spliterator.ORDERED), false) //
+				.skip(this.numLinesToSkip) //
+				.onClose(reader::close);
+	}
+
 	private static class CsvParserIterator implements Iterator<Arguments> {
 
 		private final CsvParser csvParser;
@@ -165,6 +274,14 @@ class CsvFileArgumentsProvider extends AnnotationBasedArgumentsProvider<CsvFileS
 
 		InputStream open(ExtensionContext context);
 
+		/**
+		 * Get the file this source reads from, if it is a file in the file
+		 * system rather than a classpath resource.
+		 */
+		default Optional<Path> getFile() {
+			return Optional.empty();
+		}
+
 	}
 
 	interface InputStreamProvider {
@@ -178,7 +295,19 @@ class CsvFileArgumentsProvider extends AnnotationBasedArgumentsProvider<CsvFileS
 		}
 
 		default Source file(String path) {
-			return context -> openFile(path);
+			return new Source() {
+
+				@Override
+				public InputStream open(ExtensionContext context) {
+					return openFile(path);
+				}
+
+				@Override
+				public Optional<Path> getFile() {
+					Preconditions.notBlank(path, () -> "File [" + path + "] must not be null or blank");
+					return Optional.of(Paths.get(path));
+				}
+			};
 		}
 
 	}
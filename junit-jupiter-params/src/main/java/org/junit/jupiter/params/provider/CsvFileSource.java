@@ -34,6 +34,9 @@ import org.apiguardian.api.API;
  * <p>Any line beginning with a {@code #} symbol will be interpreted as a comment
  * and will be ignored.
  *
+ * <p>Resources and files that are compressed using gzip are decompressed
+ * transparently while they are being read.
+ *
  * <p>The column delimiter (which defaults to a comma ({@code ,})) can be customized
  * via either {@link #delimiter} or {@link #delimiterString}.
  *
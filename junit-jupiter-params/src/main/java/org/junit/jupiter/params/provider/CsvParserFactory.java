@@ -36,10 +36,17 @@ class CsvParserFactory {
 	}
 
 	static CsvParser createParserFor(CsvFileSource annotation) {
-		String delimiter = selectDelimiter(annotation, annotation.delimiter(), annotation.delimiterString());
-		return createParser(delimiter, annotation.lineSeparator(), annotation.quoteCharacter(), annotation.emptyValue(),
-			annotation.maxCharsPerColumn(), COMMENT_PROCESSING_FOR_CSV_FILE_SOURCE,
-			annotation.useHeadersInDisplayName(), annotation.ignoreLeadingAndTrailingWhitespace());
+		return createParserFor(annotation, annotation.useHeadersInDisplayName());
+	}
+
+	static CsvParser createParserFor(CsvFileSource annotation, boolean headerExtractionEnabled) {
+		return createParser(selectDelimiter(annotation), annotation.lineSeparator(), annotation.quoteCharacter(),
+			annotation.emptyValue(), annotation.maxCharsPerColumn(), COMMENT_PROCESSING_FOR_CSV_FILE_SOURCE,
+			headerExtractionEnabled, annotation.ignoreLeadingAndTrailingWhitespace());
+	}
+
+	static String selectDelimiter(CsvFileSource annotation) {
+		return selectDelimiter(annotation, annotation.delimiter(), annotation.delimiterString());
 	}
 
 	private static String selectDelimiter(Annotation annotation, char delimiter, String delimiterString) {
@@ -23,6 +23,7 @@ import java.util.stream.BaseStream;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
 import org.junit.platform.commons.JUnitException;
 import org.junit.platform.commons.support.ModifierSupport;
 import org.junit.platform.commons.support.ReflectionSupport;
@@ -49,19 +50,27 @@ class FieldArgumentsProvider extends AnnotationBasedArgumentsProvider<FieldSourc
 		}
 		// @formatter:off
 		return stream(fieldNames)
-				.map(fieldName -> findField(testClass, fieldName))
+				.map(fieldName -> findCachedField(context, testClass, fieldName))
 				.map(field -> validateField(field, testInstance))
 				.map(field -> readField(field, testInstance))
 				.flatMap(fieldValue -> {
 					if (fieldValue instanceof Supplier<?>) {
 						fieldValue = ((Supplier<?>) fieldValue).get();
 					}
-					return CollectionUtils.toStream(fieldValue);
-				})
-				.map(ArgumentsUtils::toArguments);
+					return ArgumentsUtils.toArgumentsStream(fieldValue);
+				});
 		// @formatter:on
 	}
 
+	/**
+	 * Find the field in the root {@link ExtensionContext.Store} or resolve it
+	 * via {@link #findField(Class, String)} and store it for subsequent lookups.
+	 */
+	private static Field findCachedField(ExtensionContext context, Class<?> testClass, String fieldName) {
+		return context.getRoot().getStore(Namespace.create(FieldArgumentsProvider.class, testClass)) //
+				.getOrComputeIfAbsent(fieldName, __ -> findField(testClass, fieldName), Field.class);
+	}
+
 	// package-private for testing
 	static Field findField(Class<?> testClass, String fieldName) {
 		Preconditions.notBlank(fieldName, "Field name must not be blank");
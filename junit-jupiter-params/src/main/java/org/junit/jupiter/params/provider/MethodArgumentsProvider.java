@@ -25,9 +25,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestFactory;
 import org.junit.jupiter.api.TestTemplate;
 import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
 import org.junit.platform.commons.PreconditionViolationException;
 import org.junit.platform.commons.util.ClassLoaderUtils;
-import org.junit.platform.commons.util.CollectionUtils;
 import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.commons.util.ReflectionUtils;
 import org.junit.platform.commons.util.StringUtils;
@@ -48,14 +48,31 @@ class MethodArgumentsProvider extends AnnotationBasedArgumentsProvider<MethodSou
 		String[] methodNames = methodSource.value();
 		// @formatter:off
 		return stream(methodNames)
-				.map(factoryMethodName -> findFactoryMethod(testClass, testMethod, factoryMethodName))
+				.map(factoryMethodName -> findCachedFactoryMethod(context, testClass, testMethod, factoryMethodName))
 				.map(factoryMethod -> validateFactoryMethod(factoryMethod, testInstance))
 				.map(factoryMethod -> context.getExecutableInvoker().invoke(factoryMethod, testInstance))
-				.flatMap(CollectionUtils::toStream)
-				.map(ArgumentsUtils::toArguments);
+				.flatMap(ArgumentsUtils::toArgumentsStream);
 		// @formatter:on
 	}
 
+	/**
+	 * Find the factory method in the root {@link ExtensionContext.Store} or
+	 * resolve it via {@link #findFactoryMethod(Class, Method, String)} and
+	 * store it for subsequent lookups.
+	 *
+	 * <p>Resolved factory methods are cached per test class and factory method
+	 * name. A "default" local factory method depends on the name of the test
+	 * method and is therefore cached per test method.
+	 */
+	private static Method findCachedFactoryMethod(ExtensionContext context, Class<?> testClass, Method testMethod,
+			String factoryMethodName) {
+
+		Object key = StringUtils.isBlank(factoryMethodName) ? testMethod : factoryMethodName;
+		return context.getRoot().getStore(Namespace.create(MethodArgumentsProvider.class, testClass)) //
+				.getOrComputeIfAbsent(key, __ -> findFactoryMethod(testClass, testMethod, factoryMethodName),
+					Method.class);
+	}
+
 	private static Method findFactoryMethod(Class<?> testClass, Method testMethod, String factoryMethodName) {
 		String originalFactoryMethodName = factoryMethodName;
 
@@ -0,0 +1,400 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.params.provider;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.params.provider.CsvParserFactory.createParserFor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.univocity.parsers.csv.CsvParser;
+
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.util.ExceptionUtils;
+
+/**
+ * Reads the records of a CSV file by splitting the memory-mapped file into
+ * chunks that end at record boundaries and parsing up to {@code parallelism}
+ * of these chunks concurrently.
+ *
+ * <p>Chunks are only scanned and parsed once the records of the preceding
+ * chunks are requested, and records are returned in the order in which they
+ * appear in the file. Each chunk is parsed by its own {@link CsvParser}
+ * configured from the same {@link CsvFileSource}, so quoting, comments, and
+ * {@link CsvFileSource#maxCharsPerColumn() maxCharsPerColumn} are treated
+ * exactly as when the file is read sequentially. Headers are extracted from
+ * the first chunk only.
+ *
+ * <p>Finding record boundaries requires inspecting individual bytes, so only
+ * ASCII-compatible charsets are {@linkplain #supports supported}. Moreover,
+ * delimiters and line separators must not overlap partial matches of
+ * themselves.
+ *
+ * @since 5.12
+ */
+class ParallelCsvFileReader implements Iterator<String[]>, AutoCloseable {
+
+	static final int DEFAULT_CHUNK_SIZE = 1024 * 1024;
+
+	private static final AtomicInteger threadNumber = new AtomicInteger();
+
+	private final Path file;
+	private final CsvFileSource csvFileSource;
+	private final Charset charset;
+	private final FileChannel channel;
+	private final RecordBoundaryScanner scanner;
+	private final ExecutorService executor;
+	private final int parallelism;
+	private final Deque<Future<Chunk>> pendingChunks = new ArrayDeque<>();
+
+	private long nextChunkStart;
+	private boolean firstChunk = true;
+	private Iterator<String[]> records = Collections.emptyIterator();
+	private String[] headers;
+
+	static boolean supports(Charset charset, CsvFileSource csvFileSource) {
+		if (!charset.equals(UTF_8) && !charset.equals(US_ASCII) && !charset.equals(ISO_8859_1)) {
+			return false;
+		}
+		if (csvFileSource.quoteCharacter() >= 0x80) {
+			return false;
+		}
+		return !isSelfOverlapping(CsvParserFactory.selectDelimiter(csvFileSource).getBytes(charset))
+				&& !isSelfOverlapping(csvFileSource.lineSeparator().getBytes(charset));
+	}
+
+	/**
+	 * Determine if the supplied separator may start within a partial match of
+	 * itself, as {@code "aab"} does in {@code "aaab"}. Matching such separators
+	 * requires backtracking, and the CSV parser does not find them either, so
+	 * chunk ends could not be guaranteed to match the record boundaries it
+	 * detects.
+	 */
+	private static boolean isSelfOverlapping(byte[] separator) {
+		for (int i = 1; i < separator.length - 1; i++) {
+			if (separator[i] == separator[0]) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	static ParallelCsvFileReader open(Path file, CsvFileSource csvFileSource, Charset charset, int parallelism,
+			int chunkSize) {
+
+		try {
+			FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+			return new ParallelCsvFileReader(file, csvFileSource, charset, channel, parallelism, chunkSize);
+		}
+		catch (IOException e) {
+			throw new JUnitException("File [" + file + "] could not be read", e);
+		}
+	}
+
+	private ParallelCsvFileReader(Path file, CsvFileSource csvFileSource, Charset charset, FileChannel channel,
+			int parallelism, int chunkSize) throws IOException {
+
+		this.file = file;
+		this.csvFileSource = csvFileSource;
+		this.charset = charset;
+		this.channel = channel;
+		this.parallelism = parallelism;
+		this.scanner = new RecordBoundaryScanner(channel, channel.size(), chunkSize, csvFileSource, charset);
+		this.executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+			Thread thread = new Thread(runnable, "junit-csv-parser-" + threadNumber.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Get the headers extracted from the first record of the file, if
+	 * {@link CsvFileSource#useHeadersInDisplayName()} is enabled.
+	 */
+	String[] getHeaders() {
+		return this.headers;
+	}
+
+	@Override
+	public boolean hasNext() {
+		while (!this.records.hasNext()) {
+			submitChunks();
+			if (this.pendingChunks.isEmpty()) {
+				this.executor.shutdown();
+				return false;
+			}
+			Chunk chunk = awaitOldestChunk();
+			if (chunk.headers != null) {
+				this.headers = chunk.headers;
+			}
+			this.records = chunk.records.iterator();
+		}
+		return true;
+	}
+
+	@Override
+	public String[] next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		return this.records.next();
+	}
+
+	@Override
+	public void close() {
+		this.executor.shutdownNow();
+		try {
+			this.channel.close();
+		}
+		catch (IOException e) {
+			throw new JUnitException("File [" + this.file + "] could not be closed", e);
+		}
+	}
+
+	private void submitChunks() {
+		while (this.pendingChunks.size() < this.parallelism && this.nextChunkStart < this.scanner.size) {
+			long start = this.nextChunkStart;
+			long end = findChunkEnd(start);
+			boolean extractHeaders = this.firstChunk && this.csvFileSource.useHeadersInDisplayName();
+			this.pendingChunks.add(this.executor.submit(() -> parseChunk(start, end, extractHeaders)));
+			this.nextChunkStart = end;
+			this.firstChunk = false;
+		}
+	}
+
+	private long findChunkEnd(long start) {
+		try {
+			return this.scanner.findChunkEnd(start);
+		}
+		catch (IOException e) {
+			throw new JUnitException("File [" + this.file + "] could not be read", e);
+		}
+	}
+
+	private Chunk awaitOldestChunk() {
+		try {
+			return this.pendingChunks.remove().get();
+		}
+		catch (ExecutionException e) {
+			throw ExceptionUtils.throwAsUncheckedException(e.getCause());
+		}
+		catch (InterruptedException e) {
+			throw ExceptionUtils.throwAsUncheckedException(e);
+		}
+	}
+
+	private Chunk parseChunk(long start, long end, boolean extractHeaders) throws IOException {
+		MappedByteBuffer buffer = this.channel.map(MapMode.READ_ONLY, start, end - start);
+		CsvParser csvParser = createParserFor(this.csvFileSource, extractHeaders);
+		List<String[]> records = new ArrayList<>();
+		try {
+			csvParser.beginParsing(new ByteBufferInputStream(buffer), this.charset);
+			String[] csvRecord;
+			while ((csvRecord = csvParser.parseNext()) != null) {
+				records.add(csvRecord);
+			}
+			boolean headersParsed = extractHeaders && csvParser.getContext().parsedHeaders() != null;
+			return new Chunk(records, headersParsed ? CsvArgumentsProvider.getHeaders(csvParser) : null);
+		}
+		finally {
+			csvParser.stopParsing();
+		}
+	}
+
+	private static class Chunk {
+
+		private final List<String[]> records;
+		private final String[] headers;
+
+		Chunk(List<String[]> records, String[] headers) {
+			this.records = records;
+			this.headers = headers;
+		}
+	}
+
+	/**
+	 * Finds the ends of chunks by tracking whether the current position is
+	 * within a quoted value or a comment so that chunks never end inside a
+	 * record.
+	 */
+	private static class RecordBoundaryScanner {
+
+		private static final int BLOCK_SIZE = 64 * 1024;
+		private static final byte COMMENT = '#';
+
+		private final FileChannel channel;
+		private final long size;
+		private final int chunkSize;
+		private final byte quote;
+		private final byte[] delimiter;
+		private final byte[] lineSeparator;
+		private final boolean ignoreLeadingWhitespace;
+		private final ByteBuffer block = ByteBuffer.allocate(BLOCK_SIZE);
+
+		RecordBoundaryScanner(FileChannel channel, long size, int chunkSize, CsvFileSource csvFileSource,
+				Charset charset) {
+
+			this.channel = channel;
+			this.size = size;
+			this.chunkSize = chunkSize;
+			this.quote = (byte) csvFileSource.quoteCharacter();
+			this.delimiter = CsvParserFactory.selectDelimiter(csvFileSource).getBytes(charset);
+			this.lineSeparator = csvFileSource.lineSeparator().getBytes(charset);
+			this.ignoreLeadingWhitespace = csvFileSource.ignoreLeadingAndTrailingWhitespace();
+		}
+
+		/**
+		 * Find the end of the chunk starting at the supplied position, which
+		 * must be the start of a record.
+		 */
+		long findChunkEnd(long start) throws IOException {
+			long minEnd = start + this.chunkSize;
+			if (minEnd >= this.size) {
+				return this.size;
+			}
+			byte[] bytes = this.block.array();
+			boolean lineStart = true;
+			boolean comment = false;
+			boolean fieldStart = true;
+			boolean quoted = false;
+			boolean quotePending = false;
+			int lineSeparatorMatched = 0;
+			int delimiterMatched = 0;
+			long position = start;
+			while (position < this.size) {
+				int length = readBlock(position);
+				for (int i = 0; i < length; i++) {
+					byte b = bytes[i];
+					if (quotePending) {
+						quotePending = false;
+						if (b == this.quote) {
+							// escaped quote within a quoted value
+							quoted = true;
+							continue;
+						}
+					}
+					if (quoted) {
+						if (b == this.quote) {
+							quoted = false;
+							quotePending = true;
+						}
+						continue;
+					}
+					if (lineStart) {
+						comment = b == COMMENT;
+						lineStart = false;
+					}
+					lineSeparatorMatched = match(this.lineSeparator, lineSeparatorMatched, b);
+					if (lineSeparatorMatched == this.lineSeparator.length) {
+						long end = position + i + 1;
+						if (end >= minEnd) {
+							return end;
+						}
+						lineSeparatorMatched = 0;
+						delimiterMatched = 0;
+						lineStart = true;
+						fieldStart = true;
+						continue;
+					}
+					if (comment) {
+						continue;
+					}
+					delimiterMatched = match(this.delimiter, delimiterMatched, b);
+					if (delimiterMatched == this.delimiter.length) {
+						delimiterMatched = 0;
+						fieldStart = true;
+					}
+					else if (fieldStart && b == this.quote) {
+						quoted = true;
+						fieldStart = false;
+						lineSeparatorMatched = 0;
+						delimiterMatched = 0;
+					}
+					else if (!fieldStart || !this.ignoreLeadingWhitespace || (b != ' ' && b != '\t')) {
+						fieldStart = false;
+					}
+				}
+				position += length;
+			}
+			return this.size;
+		}
+
+		private static int match(byte[] bytes, int matched, byte b) {
+			if (b == bytes[matched]) {
+				return matched + 1;
+			}
+			return b == bytes[0] ? 1 : 0;
+		}
+
+		private int readBlock(long position) throws IOException {
+			this.block.clear();
+			this.block.limit((int) Math.min(BLOCK_SIZE, this.size - position));
+			while (this.block.hasRemaining()) {
+				if (this.channel.read(this.block, position + this.block.position()) < 0) {
+					break;
+				}
+			}
+			return this.block.position();
+		}
+	}
+
+	private static class ByteBufferInputStream extends InputStream {
+
+		private final ByteBuffer buffer;
+
+		ByteBufferInputStream(ByteBuffer buffer) {
+			this.buffer = buffer;
+		}
+
+		@Override
+		public int read() {
+			return this.buffer.hasRemaining() ? this.buffer.get() & 0xFF : -1;
+		}
+
+		@Override
+		public int read(byte[] bytes, int offset, int length) {
+			if (!this.buffer.hasRemaining()) {
+				return -1;
+			}
+			int count = Math.min(length, this.buffer.remaining());
+			this.buffer.get(bytes, offset, count);
+			return count;
+		}
+
+		@Override
+		public int available() {
+			return this.buffer.remaining();
+		}
+	}
+
+}
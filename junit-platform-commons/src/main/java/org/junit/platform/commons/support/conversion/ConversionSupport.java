@@ -16,7 +16,7 @@ import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.junit.platform.commons.util.ReflectionUtils.getWrapperType;
 
 import java.util.List;
-import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apiguardian.api.API;
 import org.junit.platform.commons.util.ClassLoaderUtils;
@@ -41,6 +41,17 @@ public final class ConversionSupport {
 		new FallbackStringToObjectConverter() //
 	));
 
+	/**
+	 * Cache for the {@link StringToObjectConverter} that applies to a given
+	 * target type, keyed by the wrapper type for primitives.
+	 *
+	 * <p>Since each converter's {@link StringToObjectConverter#canConvertTo(Class)
+	 * canConvertTo()} result only depends on the target type, the chain of
+	 * converters only needs to be searched once per target type.
+	 */
+	private static final ConcurrentHashMap<Class<?>, StringToObjectConverter> converterCache //
+		= new ConcurrentHashMap<>(64);
+
 	private ConversionSupport() {
 		/* no-op */
 	}
@@ -113,13 +124,12 @@ public final class ConversionSupport {
 		}
 
 		Class<?> targetTypeToUse = toWrapperType(targetType);
-		Optional<StringToObjectConverter> converter = stringToObjectConverters.stream().filter(
-			candidate -> candidate.canConvertTo(targetTypeToUse)).findFirst();
-		if (converter.isPresent()) {
+		StringToObjectConverter converter = findConverter(targetTypeToUse);
+		if (converter != null) {
 			try {
 				ClassLoader classLoaderToUse = classLoader != null ? classLoader
 						: ClassLoaderUtils.getDefaultClassLoader();
-				return (T) converter.get().convert(source, targetTypeToUse, classLoaderToUse);
+				return (T) converter.convert(source, targetTypeToUse, classLoaderToUse);
 			}
 			catch (Exception ex) {
 				if (ex instanceof ConversionException) {
@@ -136,6 +146,24 @@ public final class ConversionSupport {
 			"No built-in converter for source type java.lang.String and target type " + targetType.getTypeName());
 	}
 
+	/**
+	 * Find the first {@link StringToObjectConverter} that can convert to the
+	 * supplied target type, or {@code null} if there is none.
+	 *
+	 * <p>Found converters are cached per target type; unsupported target types
+	 * are not cached since they result in a {@link ConversionException} anyway.
+	 */
+	private static StringToObjectConverter findConverter(Class<?> targetType) {
+		return converterCache.computeIfAbsent(targetType, key -> {
+			for (StringToObjectConverter candidate : stringToObjectConverters) {
+				if (candidate.canConvertTo(key)) {
+					return candidate;
+				}
+			}
+			return null;
+		});
+	}
+
 	private static Class<?> toWrapperType(Class<?> targetType) {
 		Class<?> wrapperType = getWrapperType(targetType);
 		return wrapperType != null ? wrapperType : targetType;
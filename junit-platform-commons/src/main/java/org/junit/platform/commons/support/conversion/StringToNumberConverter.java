@@ -44,7 +44,19 @@ class StringToNumberConverter implements StringToObjectConverter {
 
 	@Override
 	public Object convert(String source, Class<?> targetType) {
-		return CONVERTERS.get(targetType).apply(source.replace("_", ""));
+		return CONVERTERS.get(targetType).apply(removeUnderscores(source));
+	}
+
+	/**
+	 * Remove all underscores from the supplied source, returning the source
+	 * itself if it does not contain any.
+	 *
+	 * <p>On Java 8, {@link String#replace(CharSequence, CharSequence)} compiles
+	 * a regular expression on every invocation, even if there is nothing to
+	 * replace; therefore, we only fall back to it when necessary.
+	 */
+	private static String removeUnderscores(String source) {
+		return source.indexOf('_') < 0 ? source : source.replace("_", "");
 	}
 
 }
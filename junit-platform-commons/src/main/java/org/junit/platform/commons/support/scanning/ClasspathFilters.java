@@ -26,6 +26,18 @@ class ClasspathFilters {
 		return file -> isNotPackageInfo(file) && isNotModuleInfo(file) && isClassFile(file);
 	}
 
+	/**
+	 * Determine if the supplied {@code /}-separated name of an entry in an
+	 * archive denotes a class file, applying the same rules as
+	 * {@link #classFiles()}.
+	 *
+	 * @since 1.12
+	 */
+	static boolean isClassFileName(String name) {
+		return name.endsWith(CLASS_FILE_SUFFIX) && !hasFileName(name, PACKAGE_INFO_FILE_NAME)
+				&& !hasFileName(name, MODULE_INFO_FILE_NAME);
+	}
+
 	static Predicate<Path> resourceFiles() {
 		return file -> !isClassFile(file);
 	}
@@ -38,6 +50,11 @@ class ClasspathFilters {
 		return !path.endsWith(MODULE_INFO_FILE_NAME);
 	}
 
+	private static boolean hasFileName(String name, String fileName) {
+		return name.endsWith(fileName)
+				&& (name.length() == fileName.length() || name.charAt(name.length() - fileName.length() - 1) == '/');
+	}
+
 	private static boolean isClassFile(Path file) {
 		return file.getFileName().toString().endsWith(CLASS_FILE_SUFFIX);
 	}
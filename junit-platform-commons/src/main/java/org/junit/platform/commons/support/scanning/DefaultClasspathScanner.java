@@ -28,6 +28,7 @@ import java.util.Collection;
 import java.util.Enumeration;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
@@ -125,19 +126,40 @@ public class DefaultClasspathScanner implements ClasspathScanner {
 
 	/**
 	 * Recursively scan for classes in all the supplied source directories.
+	 *
+	 * <p>The central directories of JAR files are read in parallel, but classes
+	 * are loaded sequentially in the order of the supplied URIs.
 	 */
 	private List<Class<?>> findClassesForUris(List<URI> baseUris, String basePackageName, ClassFilter classFilter) {
 		// @formatter:off
-		return baseUris.stream()
-				.map(baseUri -> findClassesForUri(baseUri, basePackageName, classFilter))
-				.flatMap(Collection::stream)
+		Stream<URI> baseUriStream = baseUris.size() > 1 ? baseUris.parallelStream() : baseUris.stream();
+		List<Optional<List<String>>> classNamesInJarFiles = baseUriStream
+				.map(DefaultClasspathScanner::readClassNamesInJarFile)
+				.collect(toList());
+		List<Class<?>> classes = new ArrayList<>();
+		for (int i = 0; i < baseUris.size(); i++) {
+			classes.addAll(findClassesForUri(baseUris.get(i), basePackageName, classFilter,
+				classNamesInJarFiles.get(i)));
+		}
+		return classes.stream()
 				.distinct()
 				.collect(toList());
 		// @formatter:on
 	}
 
 	private List<Class<?>> findClassesForUri(URI baseUri, String basePackageName, ClassFilter classFilter) {
+		return findClassesForUri(baseUri, basePackageName, classFilter, readClassNamesInJarFile(baseUri));
+	}
+
+	private List<Class<?>> findClassesForUri(URI baseUri, String basePackageName, ClassFilter classFilter,
+			Optional<List<String>> classNamesInJarFile) {
+
 		List<Class<?>> classes = new ArrayList<>();
+		if (classNamesInJarFile.isPresent()) {
+			classNamesInJarFile.get().forEach(className -> processClassNameSafely(className, classFilter, baseUri,
+				classes::add));
+			return classes;
+		}
 		// @formatter:off
 		walkFilesForUri(baseUri, ClasspathFilters.classFiles(),
 				(baseDir, file) ->
@@ -146,6 +168,26 @@ public class DefaultClasspathScanner implements ClasspathScanner {
 		return classes;
 	}
 
+	/**
+	 * Read the names of the classes in the JAR file denoted by the supplied URI
+	 * from its central directory, if applicable.
+	 *
+	 * @return the class names; or an empty {@code Optional} if the URI does not
+	 * denote a JAR file or it could not be read, in which case the URI should be
+	 * scanned via {@link CloseablePath}
+	 */
+	private static Optional<List<String>> readClassNamesInJarFile(URI baseUri) {
+		return JarFileClassNames.forUri(baseUri).flatMap(jarFileClassNames -> {
+			try {
+				return Optional.of(jarFileClassNames.read());
+			}
+			catch (IOException ex) {
+				logger.debug(ex, () -> "Failed to read central directory of " + jarFileClassNames);
+				return Optional.empty();
+			}
+		});
+	}
+
 	/**
 	 * Recursively scan for resources in all the supplied source directories.
 	 */
@@ -194,25 +236,40 @@ public class DefaultClasspathScanner implements ClasspathScanner {
 			Consumer<Class<?>> classConsumer) {
 		try {
 			String fullyQualifiedClassName = determineFullyQualifiedClassName(baseDir, basePackageName, classFile);
-			if (classFilter.match(fullyQualifiedClassName)) {
-				try {
-					// @formatter:off
-					loadClass.apply(fullyQualifiedClassName, getClassLoader())
-							.toOptional()
-							.filter(classFilter::match)
-							.ifPresent(classConsumer);
-					// @formatter:on
-				}
-				catch (InternalError internalError) {
-					handleInternalError(classFile, fullyQualifiedClassName, internalError);
-				}
-			}
+			processClassName(fullyQualifiedClassName, classFilter, classFile, classConsumer);
 		}
 		catch (Throwable throwable) {
 			handleThrowable(classFile, throwable);
 		}
 	}
 
+	private void processClassNameSafely(String fullyQualifiedClassName, ClassFilter classFilter, URI jarUri,
+			Consumer<Class<?>> classConsumer) {
+		try {
+			processClassName(fullyQualifiedClassName, classFilter, jarUri, classConsumer);
+		}
+		catch (Throwable throwable) {
+			handleThrowable(jarUri, throwable);
+		}
+	}
+
+	private void processClassName(String fullyQualifiedClassName, ClassFilter classFilter, Object location,
+			Consumer<Class<?>> classConsumer) {
+		if (classFilter.match(fullyQualifiedClassName)) {
+			try {
+				// @formatter:off
+				loadClass.apply(fullyQualifiedClassName, getClassLoader())
+						.toOptional()
+						.filter(classFilter::match)
+						.ifPresent(classConsumer);
+				// @formatter:on
+			}
+			catch (InternalError internalError) {
+				handleInternalError(location, fullyQualifiedClassName, internalError);
+			}
+		}
+	}
+
 	private void processResourceFileSafely(Path baseDir, String basePackageName, Predicate<Resource> resourceFilter,
 			Path resourceFile, Consumer<Resource> resourceConsumer) {
 		try {
@@ -280,35 +337,43 @@ public class DefaultClasspathScanner implements ClasspathScanner {
 		return subpackageName;
 	}
 
-	private void handleInternalError(Path classFile, String fullyQualifiedClassName, InternalError ex) {
+	private void handleInternalError(Object location, String fullyQualifiedClassName, InternalError ex) {
 		if (MALFORMED_CLASS_NAME_ERROR_MESSAGE.equals(ex.getMessage())) {
-			logMalformedClassName(classFile, fullyQualifiedClassName, ex);
+			logMalformedClassName(location, fullyQualifiedClassName, ex);
 		}
 		else {
-			logGenericFileProcessingException(classFile, ex);
+			logGenericFileProcessingException(location, ex);
 		}
 	}
 
-	private void handleThrowable(Path classFile, Throwable throwable) {
+	private void handleThrowable(Object location, Throwable throwable) {
 		UnrecoverableExceptions.rethrowIfUnrecoverable(throwable);
-		logGenericFileProcessingException(classFile, throwable);
+		logGenericFileProcessingException(location, throwable);
 	}
 
-	private void logMalformedClassName(Path classFile, String fullyQualifiedClassName, InternalError ex) {
+	private void logMalformedClassName(Object location, String fullyQualifiedClassName, InternalError ex) {
 		try {
 			logger.debug(ex, () -> format("The java.lang.Class loaded from path [%s] has a malformed class name [%s].",
-				classFile.toAbsolutePath(), fullyQualifiedClassName));
+				describe(location), fullyQualifiedClassName));
 		}
 		catch (Throwable t) {
 			UnrecoverableExceptions.rethrowIfUnrecoverable(t);
 			ex.addSuppressed(t);
-			logGenericFileProcessingException(classFile, ex);
+			logGenericFileProcessingException(location, ex);
 		}
 	}
 
-	private void logGenericFileProcessingException(Path classpathFile, Throwable throwable) {
-		logger.debug(throwable,
-			() -> format("Failed to load [%s] during classpath scanning.", classpathFile.toAbsolutePath()));
+	private void logGenericFileProcessingException(Object location, Throwable throwable) {
+		logger.debug(throwable, () -> format("Failed to load [%s] during classpath scanning.", describe(location)));
+	}
+
+	/**
+	 * Describe the supplied location, which is either the {@link Path} of a
+	 * class or resource file or the {@link URI} of the JAR file a class name
+	 * was read from.
+	 */
+	private static Object describe(Object location) {
+		return location instanceof Path ? ((Path) location).toAbsolutePath() : location;
 	}
 
 	private ClassLoader getClassLoader() {
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.support.scanning;
+
+import static org.junit.platform.commons.support.scanning.ClasspathFilters.CLASS_FILE_SUFFIX;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Lists the fully qualified names of the classes contained in a JAR file,
+ * optionally restricted to the entries below a given package directory.
+ *
+ * <p>In contrast to {@link CloseablePath}, the names are read directly from
+ * the JAR's central directory via {@link ZipFile} instead of creating a zip
+ * {@link java.nio.file.FileSystem} and walking its file tree.
+ *
+ * <p>Only JAR files in the default file system are supported; for all other
+ * URIs (for example, nested JAR files) {@link #forUri(URI)} returns an empty
+ * {@link Optional}, and callers should fall back to {@link CloseablePath}.
+ *
+ * @since 1.12
+ */
+final class JarFileClassNames {
+
+	private static final String FILE_URI_SCHEME = "file";
+	private static final String JAR_FILE_EXTENSION = ".jar";
+	private static final String JAR_URI_SEPARATOR = "!/";
+	private static final char ENTRY_PATH_SEPARATOR = '/';
+
+	private final Path jarFile;
+	private final String entryPrefix;
+
+	static Optional<JarFileClassNames> forUri(URI uri) {
+		try {
+			if (CloseablePath.JAR_URI_SCHEME.equals(uri.getScheme())) {
+				// Parsing: jar:<url>!/[<entry>], see java.net.JarURLConnection
+				String uriString = uri.toString();
+				int jarUriSeparator = uriString.indexOf(JAR_URI_SEPARATOR);
+				if (jarUriSeparator < 0 || jarUriSeparator != uriString.lastIndexOf(JAR_URI_SEPARATOR)) {
+					return Optional.empty();
+				}
+				URI jarFileUri = new URI(uriString.substring(CloseablePath.JAR_URI_SCHEME.length() + 1,
+					jarUriSeparator));
+				String entry = uriString.substring(jarUriSeparator + JAR_URI_SEPARATOR.length());
+				if (!FILE_URI_SCHEME.equals(jarFileUri.getScheme()) || entry.indexOf('%') >= 0) {
+					return Optional.empty();
+				}
+				return Optional.of(new JarFileClassNames(Paths.get(jarFileUri), toEntryPrefix(entry)));
+			}
+			if (FILE_URI_SCHEME.equals(uri.getScheme()) && uri.getPath().endsWith(JAR_FILE_EXTENSION)) {
+				return Optional.of(new JarFileClassNames(Paths.get(uri), ""));
+			}
+		}
+		catch (URISyntaxException | IllegalArgumentException ex) {
+			// fall through to let the caller handle the URI
+		}
+		return Optional.empty();
+	}
+
+	private static String toEntryPrefix(String entry) {
+		if (entry.isEmpty() || entry.charAt(entry.length() - 1) == ENTRY_PATH_SEPARATOR) {
+			return entry;
+		}
+		return entry + ENTRY_PATH_SEPARATOR;
+	}
+
+	private JarFileClassNames(Path jarFile, String entryPrefix) {
+		this.jarFile = jarFile;
+		this.entryPrefix = entryPrefix;
+	}
+
+	/**
+	 * Read the central directory of the JAR file and return the fully
+	 * qualified names of all classes below the configured entry prefix in the
+	 * order in which they are stored.
+	 */
+	List<String> read() throws IOException {
+		List<String> classNames = new ArrayList<>();
+		try (ZipFile zipFile = new ZipFile(this.jarFile.toFile())) {
+			Enumeration<? extends ZipEntry> entries = zipFile.entries();
+			while (entries.hasMoreElements()) {
+				ZipEntry entry = entries.nextElement();
+				String name = entry.getName();
+				if (!entry.isDirectory() && name.startsWith(this.entryPrefix)
+						&& ClasspathFilters.isClassFileName(name)) {
+					classNames.add(toClassName(name));
+				}
+			}
+		}
+		return classNames;
+	}
+
+	private static String toClassName(String entryName) {
+		return entryName.substring(0, entryName.length() - CLASS_FILE_SUFFIX.length()) //
+				.replace(ENTRY_PATH_SEPARATOR, '.');
+	}
+
+	@Override
+	public String toString() {
+		return this.jarFile + JAR_URI_SEPARATOR + this.entryPrefix;
+	}
+
+}
@@ -10,9 +10,11 @@
 
 package org.junit.platform.commons.util;
 
+import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 import static org.apiguardian.api.API.Status.INTERNAL;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -108,23 +110,44 @@ public class ClassNamePatternFilterUtils {
 			return type == FilterType.INCLUDE ? __ -> true : __ -> false;
 		}
 
-		List<Pattern> patternList = convertToRegularExpressions(patterns);
-		return object -> {
-			boolean isMatchingAnyPattern = patternList.stream().anyMatch(
-				pattern -> pattern.matcher(classNameProvider.apply(object)).matches());
-			return (type == FilterType.INCLUDE) == isMatchingAnyPattern;
-		};
+		Predicate<String> matcher = compile(patterns);
+		return object -> (type == FilterType.INCLUDE) == matcher.test(classNameProvider.apply(object));
 	}
 
-	private static List<Pattern> convertToRegularExpressions(String patterns) {
-		// @formatter:off
-		return Arrays.stream(patterns.split(","))
-				.filter(StringUtils::isNotBlank)
-				.map(String::trim)
-				.map(ClassNamePatternFilterUtils::replaceRegExElements)
-				.map(Pattern::compile)
+	/**
+	 * Compile the supplied comma-separated patterns into a single predicate
+	 * that matches fully qualified class names against any of the patterns.
+	 *
+	 * <p>Patterns that only consist of Java identifier characters, {@code "."},
+	 * and {@code "*"} &mdash; for example, exact class names, package prefixes
+	 * such as {@code "org.example.*"}, or suffixes such as {@code "*Tests"}
+	 * &mdash; are matched using plain string operations. All other patterns
+	 * are converted into regular expressions and combined into a single
+	 * {@link Pattern}.
+	 */
+	private static Predicate<String> compile(String patterns) {
+		List<String> patternList = Arrays.stream(patterns.split(",")) //
+				.filter(StringUtils::isNotBlank) //
+				.map(String::trim) //
 				.collect(toList());
-		// @formatter:on
+		WildcardPattern[] wildcardPatterns = patternList.stream() //
+				.filter(WildcardPattern::isApplicable) //
+				.map(WildcardPattern::new) //
+				.toArray(WildcardPattern[]::new);
+		String combinedRegularExpression = patternList.stream() //
+				.filter(pattern -> !WildcardPattern.isApplicable(pattern)) //
+				.map(pattern -> "(?:" + replaceRegExElements(pattern) + ")") //
+				.collect(joining("|"));
+		Pattern regularExpression = combinedRegularExpression.isEmpty() ? null
+				: Pattern.compile(combinedRegularExpression);
+		return className -> {
+			for (WildcardPattern wildcardPattern : wildcardPatterns) {
+				if (wildcardPattern.matches(className)) {
+					return true;
+				}
+			}
+			return regularExpression != null && regularExpression.matcher(className).matches();
+		};
 	}
 
 	private static String replaceRegExElements(String pattern) {
@@ -136,4 +159,93 @@ public class ClassNamePatternFilterUtils {
 				.replace("*", ".+");
 	}
 
+	/**
+	 * Pattern consisting of literal segments separated by {@code "*"} wildcards
+	 * that is matched without regular expressions but with the same semantics
+	 * as {@link #replaceRegExElements(String)}: each {@code "*"} matches one or
+	 * more arbitrary characters, and each {@code "."} matches either a
+	 * {@code "."} or a {@code "$"}.
+	 */
+	private static final class WildcardPattern {
+
+		private static final char WILDCARD = '*';
+
+		private final String[] segments;
+
+		static boolean isApplicable(String pattern) {
+			for (int i = 0; i < pattern.length(); i++) {
+				char c = pattern.charAt(i);
+				if (c != WILDCARD && c != '.' && !Character.isJavaIdentifierPart(c)) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		WildcardPattern(String pattern) {
+			List<String> segments = new ArrayList<>();
+			int start = 0;
+			for (int i = 0; i < pattern.length(); i++) {
+				if (pattern.charAt(i) == WILDCARD) {
+					segments.add(pattern.substring(start, i));
+					start = i + 1;
+				}
+			}
+			segments.add(pattern.substring(start));
+			this.segments = segments.toArray(new String[0]);
+		}
+
+		boolean matches(String className) {
+			String first = this.segments[0];
+			if (this.segments.length == 1) {
+				return className.length() == first.length() && regionMatches(className, 0, first);
+			}
+			String last = this.segments[this.segments.length - 1];
+			int lastStart = className.length() - last.length();
+			if (!regionMatches(className, 0, first) || lastStart < first.length()
+					|| !regionMatches(className, lastStart, last)) {
+				return false;
+			}
+			// Each wildcard must match at least one character; leftmost matches
+			// of the inner segments leave the most room for the remaining ones.
+			int position = first.length();
+			for (int i = 1; i < this.segments.length - 1; i++) {
+				position = indexOf(className, this.segments[i], position + 1, lastStart);
+				if (position < 0) {
+					return false;
+				}
+				position += this.segments[i].length();
+			}
+			return position + 1 <= lastStart;
+		}
+
+		/**
+		 * Find the first index at or after {@code fromIndex} at which the
+		 * supplied segment matches and ends no later than {@code endIndex}.
+		 */
+		private static int indexOf(String className, String segment, int fromIndex, int endIndex) {
+			for (int i = fromIndex; i + segment.length() <= endIndex; i++) {
+				if (regionMatches(className, i, segment)) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		private static boolean regionMatches(String className, int offset, String segment) {
+			if (offset + segment.length() > className.length()) {
+				return false;
+			}
+			for (int i = 0; i < segment.length(); i++) {
+				char expected = segment.charAt(i);
+				char actual = className.charAt(offset + i);
+				if (expected != actual && !(expected == '.' && actual == '$')) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+	}
+
 }
@@ -16,6 +16,7 @@ import static java.util.stream.Collectors.toSet;
 import static org.apiguardian.api.API.Status.INTERNAL;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.lang.module.Configuration;
 import java.lang.module.ModuleFinder;
 import java.lang.module.ModuleReader;
@@ -27,8 +28,11 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -58,6 +62,24 @@ public class ModuleUtils {
 
 	private static final Logger logger = LoggerFactory.getLogger(ModuleUtils.class);
 
+	private static final String FILE_URI_SCHEME = "file";
+	private static final String JAR_FILE_EXTENSION = ".jar";
+
+	/**
+	 * Cache for the contents of packaged modules, keyed by module layer and
+	 * module reference.
+	 *
+	 * <p>The contents of a modular JAR file cannot change without breaking
+	 * class loading from it while its layer is in use. Thus, the contents of
+	 * packaged modules are only listed once per layer, no matter how many test
+	 * engines resolve the same module selector. Layers are weakly referenced
+	 * so that their entries are discarded together with the layer. The
+	 * contents of exploded modules are not cached since the directories may
+	 * change.
+	 */
+	private static final Map<ModuleLayer, Map<ModuleReference, List<String>>> packagedModuleContents //
+		= Collections.synchronizedMap(new WeakHashMap<>());
+
 	/**
 	 * Find all non-system boot modules names.
 	 *
@@ -111,12 +133,13 @@ public class ModuleUtils {
 		Preconditions.notNull(filter, "Class filter must not be null");
 
 		logger.debug(() -> "Looking for classes in module: " + moduleName);
+		ModuleLayer layer = currentLayer();
 		// @formatter:off
-		Set<ModuleReference> moduleReferences = streamResolvedModules(isEqual(moduleName))
+		Set<ModuleReference> moduleReferences = streamResolvedModules(isEqual(moduleName), layer)
 				.map(ResolvedModule::reference)
 				.collect(toSet());
 		// @formatter:on
-		return scan(moduleReferences, filter, ModuleUtils.class.getClassLoader());
+		return scan(moduleReferences, filter, ModuleUtils.class.getClassLoader(), layer);
 	}
 
 	/**
@@ -135,18 +158,26 @@ public class ModuleUtils {
 		Preconditions.notNull(filter, "Resource filter must not be null");
 
 		logger.debug(() -> "Looking for classes in module: " + moduleName);
+		ModuleLayer layer = currentLayer();
 		// @formatter:off
-		Set<ModuleReference> moduleReferences = streamResolvedModules(isEqual(moduleName))
+		Set<ModuleReference> moduleReferences = streamResolvedModules(isEqual(moduleName), layer)
 				.map(ResolvedModule::reference)
 				.collect(toSet());
 		// @formatter:on
-		return scan(moduleReferences, filter, ModuleUtils.class.getClassLoader());
+		return scan(moduleReferences, filter, ModuleUtils.class.getClassLoader(), layer);
 	}
 
 	/**
 	 * Stream resolved modules from current (or boot) module layer.
 	 */
 	private static Stream<ResolvedModule> streamResolvedModules(Predicate<String> moduleNamePredicate) {
+		return streamResolvedModules(moduleNamePredicate, currentLayer());
+	}
+
+	/**
+	 * Get the module layer of this class, or the boot layer as fall-back.
+	 */
+	private static ModuleLayer currentLayer() {
 		Module module = ModuleUtils.class.getModule();
 		ModuleLayer layer = module.getLayer();
 		if (layer == null) {
@@ -154,7 +185,7 @@ public class ModuleUtils {
 					+ " - using boot layer returned by ModuleLayer.boot() as fall-back.");
 			layer = ModuleLayer.boot();
 		}
-		return streamResolvedModules(moduleNamePredicate, layer);
+		return layer;
 	}
 
 	/**
@@ -173,9 +204,10 @@ public class ModuleUtils {
 	 * Scan for classes using the supplied set of module references, class
 	 * filter, and loader.
 	 */
-	private static List<Class<?>> scan(Set<ModuleReference> references, ClassFilter filter, ClassLoader loader) {
+	private static List<Class<?>> scan(Set<ModuleReference> references, ClassFilter filter, ClassLoader loader,
+			ModuleLayer layer) {
 		logger.debug(() -> "Scanning " + references.size() + " module references: " + references);
-		ModuleReferenceClassScanner scanner = new ModuleReferenceClassScanner(filter, loader);
+		ModuleReferenceClassScanner scanner = new ModuleReferenceClassScanner(filter, loader, layer);
 		List<Class<?>> classes = new ArrayList<>();
 		for (ModuleReference reference : references) {
 			classes.addAll(scanner.scan(reference));
@@ -189,9 +221,9 @@ public class ModuleUtils {
 	 * filter, and loader.
 	 */
 	private static List<Resource> scan(Set<ModuleReference> references, Predicate<Resource> filter,
-			ClassLoader loader) {
+			ClassLoader loader, ModuleLayer layer) {
 		logger.debug(() -> "Scanning " + references.size() + " module references: " + references);
-		ModuleReferenceResourceScanner scanner = new ModuleReferenceResourceScanner(filter, loader);
+		ModuleReferenceResourceScanner scanner = new ModuleReferenceResourceScanner(filter, loader, layer);
 		List<Resource> classes = new ArrayList<>();
 		for (ModuleReference reference : references) {
 			classes.addAll(scanner.scan(reference));
@@ -200,6 +232,52 @@ public class ModuleUtils {
 		return Collections.unmodifiableList(classes);
 	}
 
+	/**
+	 * List the names of all entries in the supplied module of the supplied
+	 * layer, using the cached contents for packaged modules.
+	 *
+	 * @see ModuleReader#list()
+	 */
+	static List<String> listContents(ModuleLayer layer, ModuleReference reference) throws IOException {
+		if (!isPackagedModule(reference)) {
+			return readContents(reference);
+		}
+		Map<ModuleReference, List<String>> contents = packagedModuleContents.computeIfAbsent(layer,
+			__ -> new ConcurrentHashMap<>());
+		try {
+			return contents.computeIfAbsent(reference, ModuleUtils::readContentsUnchecked);
+		}
+		catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+	}
+
+	private static List<String> readContentsUnchecked(ModuleReference reference) {
+		try {
+			return readContents(reference);
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static List<String> readContents(ModuleReference reference) throws IOException {
+		try (ModuleReader reader = reference.open()) {
+			try (Stream<String> names = reader.list()) {
+				return Collections.unmodifiableList(names.collect(Collectors.toList()));
+			}
+		}
+	}
+
+	private static boolean isPackagedModule(ModuleReference reference) {
+		// @formatter:off
+		return reference.location()
+				.filter(uri -> FILE_URI_SCHEME.equals(uri.getScheme()))
+				.filter(uri -> uri.getPath() != null && uri.getPath().endsWith(JAR_FILE_EXTENSION))
+				.isPresent();
+		// @formatter:on
+	}
+
 	/**
 	 * {@link ModuleReference} class scanner.
 	 *
@@ -209,34 +287,50 @@ public class ModuleUtils {
 
 		private final ClassFilter classFilter;
 		private final ClassLoader classLoader;
+		private final ModuleLayer layer;
 
-		ModuleReferenceClassScanner(ClassFilter classFilter, ClassLoader classLoader) {
+		ModuleReferenceClassScanner(ClassFilter classFilter, ClassLoader classLoader, ModuleLayer layer) {
 			this.classFilter = classFilter;
 			this.classLoader = classLoader;
+			this.layer = layer;
 		}
 
 		/**
 		 * Scan module reference for classes that potentially contain testable methods.
+		 *
+		 * <p>Only class files in one of the packages declared by the module's
+		 * {@linkplain java.lang.module.ModuleDescriptor#packages() descriptor}
+		 * are considered, which excludes {@code module-info} as well as entries
+		 * such as {@code META-INF/versions/**} before any class is loaded.
 		 */
 		List<Class<?>> scan(ModuleReference reference) {
-			try (ModuleReader reader = reference.open()) {
-				try (Stream<String> names = reader.list()) {
-					// @formatter:off
-					return names.filter(name -> name.endsWith(".class"))
-							.map(this::className)
-							.filter(name -> !name.equals("module-info"))
-							.filter(classFilter::match)
-							.map(this::loadClassUnchecked)
-							.filter(classFilter::match)
-							.collect(Collectors.toList());
-					// @formatter:on
-				}
+			Set<String> packages = reference.descriptor().packages();
+			try {
+				// @formatter:off
+				return listContents(this.layer, reference).stream()
+						.filter(name -> name.endsWith(".class"))
+						.map(this::className)
+						.filter(name -> !name.equals("module-info"))
+						.filter(name -> packages.contains(packageName(name)))
+						.filter(classFilter::match)
+						.map(this::loadClassUnchecked)
+						.filter(classFilter::match)
+						.collect(Collectors.toList());
+				// @formatter:on
 			}
 			catch (IOException e) {
 				throw new JUnitException("Failed to read contents of " + reference + ".", e);
 			}
 		}
 
+		/**
+		 * Determine the package name of the supplied binary class name.
+		 */
+		private String packageName(String binaryName) {
+			int lastDot = binaryName.lastIndexOf('.');
+			return lastDot < 0 ? "" : binaryName.substring(0, lastDot);
+		}
+
 		/**
 		 * Convert resource name to binary class name.
 		 */
@@ -271,25 +365,27 @@ public class ModuleUtils {
 
 		private final Predicate<Resource> resourceFilter;
 		private final ClassLoader classLoader;
+		private final ModuleLayer layer;
 
-		ModuleReferenceResourceScanner(Predicate<Resource> resourceFilter, ClassLoader classLoader) {
+		ModuleReferenceResourceScanner(Predicate<Resource> resourceFilter, ClassLoader classLoader,
+				ModuleLayer layer) {
 			this.resourceFilter = resourceFilter;
 			this.classLoader = classLoader;
+			this.layer = layer;
 		}
 
 		/**
 		 * Scan module reference for resources that potentially contain testable resources.
 		 */
 		List<Resource> scan(ModuleReference reference) {
-			try (ModuleReader reader = reference.open()) {
-				try (Stream<String> names = reader.list()) {
-					// @formatter:off
-					return names.filter(name -> !name.endsWith(".class"))
-							.map(this::loadResourceUnchecked)
-							.filter(resourceFilter)
-							.collect(Collectors.toList());
-					// @formatter:on
-				}
+			try {
+				// @formatter:off
+				return listContents(this.layer, reference).stream()
+						.filter(name -> !name.endsWith(".class"))
+						.map(this::loadResourceUnchecked)
+						.filter(resourceFilter)
+						.collect(Collectors.toList());
+				// @formatter:on
 			}
 			catch (IOException e) {
 				throw new JUnitException("Failed to read contents of " + reference + ".", e);
@@ -11,17 +11,24 @@
 package org.junit.platform.engine.support.store;
 
 import static java.util.Comparator.comparing;
+import static java.util.stream.Collectors.toCollection;
+import static java.util.stream.Collectors.toList;
 import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.junit.platform.commons.util.ReflectionUtils.getWrapperType;
 import static org.junit.platform.commons.util.ReflectionUtils.isAssignableTo;
 
+import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.Objects;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import org.apiguardian.api.API;
 import org.junit.platform.commons.util.ExceptionUtils;
@@ -48,12 +55,18 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 
 	private final AtomicInteger insertOrderSequence = new AtomicInteger();
 
-	private final ConcurrentMap<CompositeKey<N>, StoredValue> storedValues = new ConcurrentHashMap<>(4);
+	/**
+	 * Values stored in this store, grouped by namespace so that lookups do
+	 * not have to allocate a composite key.
+	 */
+	private final ConcurrentMap<N, ConcurrentMap<Object, StoredValue>> storedValues = new ConcurrentHashMap<>(4);
 
 	private final NamespacedHierarchicalStore<N> parentStore;
 
 	private final CloseAction<N> closeAction;
 
+	private final int closeParallelism;
+
 	private volatile boolean closed = false;
 
 	/**
@@ -73,16 +86,41 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 	 * store is closed; may be {@code null}
 	 */
 	public NamespacedHierarchicalStore(NamespacedHierarchicalStore<N> parentStore, CloseAction<N> closeAction) {
+		this(parentStore, closeAction, 1);
+	}
+
+	/**
+	 * Create a new store with the supplied parent, close action, and close
+	 * parallelism.
+	 *
+	 * <p>If the close parallelism is greater than {@code 1}, values stored in
+	 * different namespaces are closed concurrently using up to that many
+	 * threads when this store is {@linkplain #close() closed}. Values stored
+	 * in the same namespace are still closed sequentially in reverse
+	 * insertion order.
+	 *
+	 * @param parentStore the parent store to use for lookups; may be {@code null}
+	 * @param closeAction the action to be called for each stored value when this
+	 * store is closed; may be {@code null}
+	 * @param closeParallelism the maximum number of threads used to close
+	 * values; must be greater than zero
+	 * @since 1.12
+	 */
+	@API(status = EXPERIMENTAL, since = "1.12")
+	public NamespacedHierarchicalStore(NamespacedHierarchicalStore<N> parentStore, CloseAction<N> closeAction,
+			int closeParallelism) {
+		Preconditions.condition(closeParallelism > 0, "closeParallelism must be greater than zero");
 		this.parentStore = parentStore;
 		this.closeAction = closeAction;
+		this.closeParallelism = closeParallelism;
 	}
 
 	/**
 	 * Create a child store with this store as its parent and this store's close
-	 * action.
+	 * action and close parallelism.
 	 */
 	public NamespacedHierarchicalStore<N> newChild() {
-		return new NamespacedHierarchicalStore<>(this, this.closeAction);
+		return new NamespacedHierarchicalStore<>(this, this.closeAction, this.closeParallelism);
 	}
 
 	/**
@@ -101,6 +139,13 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 	 * If a {@link CloseAction} is configured, it will be called with all successfully
 	 * stored values in reverse insertion order.
 	 *
+	 * <p>If this store has been created with a close parallelism greater than
+	 * {@code 1} and more than one namespace contains values the close action
+	 * {@linkplain CloseAction#appliesTo applies to}, the values of different
+	 * namespaces are closed concurrently; reverse insertion order then only
+	 * holds within each namespace. In any case, this method only returns once
+	 * all values have been closed.
+	 *
 	 * <p>Closing a store does not close its parent or any of its children.
 	 *
 	 * <p>Invocations of this method after the store has already been closed will
@@ -114,11 +159,15 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 			try {
 				if (this.closeAction != null) {
 					ThrowableCollector throwableCollector = new ThrowableCollector(__ -> false);
-					this.storedValues.entrySet().stream() //
-							.map(e -> e.getValue().evaluateSafely(e.getKey())) //
-							.filter(it -> it != null && it.value != null) //
-							.sorted(EvaluatedValue.REVERSE_INSERT_ORDER) //
-							.forEach(it -> throwableCollector.execute(() -> it.close(this.closeAction)));
+					if (this.closeParallelism > 1 && this.storedValues.size() > 1) {
+						closeNamespacesConcurrently(throwableCollector);
+					}
+					else {
+						this.storedValues.entrySet().stream() //
+								.flatMap(this::evaluateSafely) //
+								.sorted(EvaluatedValue.REVERSE_INSERT_ORDER) //
+								.forEach(it -> throwableCollector.execute(() -> it.close(this.closeAction)));
+					}
 					throwableCollector.assertEmpty();
 				}
 			}
@@ -128,6 +177,53 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 		}
 	}
 
+	private void closeNamespacesConcurrently(ThrowableCollector throwableCollector) {
+		// start with the namespace whose values were stored most recently
+		Queue<List<EvaluatedValue<N>>> pendingNamespaces = this.storedValues.entrySet().stream() //
+				.map(namespaceEntry -> evaluateSafely(namespaceEntry) //
+						.filter(it -> this.closeAction.appliesTo(it.namespace, it.key, it.value)) //
+						.sorted(EvaluatedValue.REVERSE_INSERT_ORDER) //
+						.collect(toList())) //
+				.filter(values -> !values.isEmpty()) //
+				.sorted(comparing((List<EvaluatedValue<N>> values) -> values.get(0).order).reversed()) //
+				.collect(toCollection(ConcurrentLinkedQueue::new));
+		Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+		Runnable worker = () -> {
+			List<EvaluatedValue<N>> values;
+			while ((values = pendingNamespaces.poll()) != null) {
+				for (EvaluatedValue<N> value : values) {
+					try {
+						value.close(this.closeAction);
+					}
+					catch (Throwable t) {
+						failures.add(t);
+					}
+				}
+			}
+		};
+		int threads = Math.min(pendingNamespaces.size(), this.closeParallelism);
+		List<Thread> helpers = new ArrayList<>();
+		for (int i = 1; i < threads; i++) {
+			Thread helper = new Thread(worker, "junit-store-close-" + i);
+			helper.setDaemon(true);
+			helper.start();
+			helpers.add(helper);
+		}
+		worker.run();
+		for (Thread helper : helpers) {
+			throwableCollector.execute(helper::join);
+		}
+		failures.forEach(failure -> throwableCollector.execute(() -> {
+			throw failure;
+		}));
+	}
+
+	private Stream<EvaluatedValue<N>> evaluateSafely(Map.Entry<N, ConcurrentMap<Object, StoredValue>> namespaceEntry) {
+		return namespaceEntry.getValue().entrySet().stream() //
+				.map(e -> e.getValue().evaluateSafely(namespaceEntry.getKey(), e.getKey())) //
+				.filter(it -> it != null && it.value != null);
+	}
+
 	/**
 	 * Get the value stored for the supplied namespace and key in this store or
 	 * the parent store, if present.
@@ -139,7 +235,7 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 	 * closed
 	 */
 	public Object get(N namespace, Object key) {
-		StoredValue storedValue = getStoredValue(new CompositeKey<>(namespace, key));
+		StoredValue storedValue = getStoredValue(namespace, key);
 		return StoredValue.evaluateIfNotNull(storedValue);
 	}
 
@@ -173,10 +269,9 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 	 */
 	public <K, V> Object getOrComputeIfAbsent(N namespace, K key, Function<K, V> defaultCreator) {
 		Preconditions.notNull(defaultCreator, "defaultCreator must not be null");
-		CompositeKey<N> compositeKey = new CompositeKey<>(namespace, key);
-		StoredValue storedValue = getStoredValue(compositeKey);
+		StoredValue storedValue = getStoredValue(namespace, key);
 		if (storedValue == null) {
-			storedValue = this.storedValues.computeIfAbsent(compositeKey,
+			storedValue = getOrCreateNamespaceValues(namespace).computeIfAbsent(key,
 				__ -> storedValue(new MemoizingSupplier(() -> {
 					rejectIfClosed();
 					return defaultCreator.apply(key);
@@ -222,7 +317,8 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 	 */
 	public Object put(N namespace, Object key, Object value) throws NamespacedHierarchicalStoreException {
 		rejectIfClosed();
-		StoredValue oldValue = this.storedValues.put(new CompositeKey<>(namespace, key), storedValue(() -> value));
+		validate(namespace, key);
+		StoredValue oldValue = getOrCreateNamespaceValues(namespace).put(key, storedValue(() -> value));
 		return StoredValue.evaluateIfNotNull(oldValue);
 	}
 
@@ -241,7 +337,9 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 	 */
 	public Object remove(N namespace, Object key) {
 		rejectIfClosed();
-		StoredValue previous = this.storedValues.remove(new CompositeKey<>(namespace, key));
+		validate(namespace, key);
+		ConcurrentMap<Object, StoredValue> namespaceValues = this.storedValues.get(namespace);
+		StoredValue previous = namespaceValues == null ? null : namespaceValues.remove(key);
 		return StoredValue.evaluateIfNotNull(previous);
 	}
 
@@ -269,17 +367,33 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 		return new StoredValue(this.insertOrderSequence.getAndIncrement(), value);
 	}
 
-	private StoredValue getStoredValue(CompositeKey<N> compositeKey) {
-		StoredValue storedValue = this.storedValues.get(compositeKey);
-		if (storedValue != null) {
-			return storedValue;
+	private ConcurrentMap<Object, StoredValue> getOrCreateNamespaceValues(N namespace) {
+		ConcurrentMap<Object, StoredValue> namespaceValues = this.storedValues.get(namespace);
+		if (namespaceValues == null) {
+			namespaceValues = this.storedValues.computeIfAbsent(namespace, __ -> new ConcurrentHashMap<>(4));
 		}
-		if (this.parentStore != null) {
-			return this.parentStore.getStoredValue(compositeKey);
+		return namespaceValues;
+	}
+
+	private StoredValue getStoredValue(N namespace, Object key) {
+		validate(namespace, key);
+		for (NamespacedHierarchicalStore<N> store = this; store != null; store = store.parentStore) {
+			ConcurrentMap<Object, StoredValue> namespaceValues = store.storedValues.get(namespace);
+			if (namespaceValues != null) {
+				StoredValue storedValue = namespaceValues.get(key);
+				if (storedValue != null) {
+					return storedValue;
+				}
+			}
 		}
 		return null;
 	}
 
+	private static void validate(Object namespace, Object key) {
+		Preconditions.notNull(namespace, "namespace must not be null");
+		Preconditions.notNull(key, "key must not be null");
+	}
+
 	@SuppressWarnings("unchecked")
 	private <T> T castToRequiredType(Object key, Object value, Class<T> requiredType) {
 		Preconditions.notNull(requiredType, "requiredType must not be null");
@@ -305,35 +419,6 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 		}
 	}
 
-	private static class CompositeKey<N> {
-
-		private final N namespace;
-		private final Object key;
-
-		private CompositeKey(N namespace, Object key) {
-			this.namespace = Preconditions.notNull(namespace, "namespace must not be null");
-			this.key = Preconditions.notNull(key, "key must not be null");
-		}
-
-		@Override
-		public boolean equals(Object o) {
-			if (this == o) {
-				return true;
-			}
-			if (o == null || getClass() != o.getClass()) {
-				return false;
-			}
-			CompositeKey<?> that = (CompositeKey<?>) o;
-			return this.namespace.equals(that.namespace) && this.key.equals(that.key);
-		}
-
-		@Override
-		public int hashCode() {
-			return Objects.hash(this.namespace, this.key);
-		}
-
-	}
-
 	private static class StoredValue {
 
 		private final int order;
@@ -344,9 +429,9 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 			this.supplier = supplier;
 		}
 
-		private <N> EvaluatedValue<N> evaluateSafely(CompositeKey<N> compositeKey) {
+		private <N> EvaluatedValue<N> evaluateSafely(N namespace, Object key) {
 			try {
-				return new EvaluatedValue<>(compositeKey, this.order, evaluate());
+				return new EvaluatedValue<>(namespace, key, this.order, evaluate());
 			}
 			catch (Throwable t) {
 				UnrecoverableExceptions.rethrowIfUnrecoverable(t);
@@ -369,18 +454,20 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 		private static final Comparator<EvaluatedValue<?>> REVERSE_INSERT_ORDER = comparing(
 			(EvaluatedValue<?> it) -> it.order).reversed();
 
-		private final CompositeKey<N> compositeKey;
+		private final N namespace;
+		private final Object key;
 		private final int order;
 		private final Object value;
 
-		private EvaluatedValue(CompositeKey<N> compositeKey, int order, Object value) {
-			this.compositeKey = compositeKey;
+		private EvaluatedValue(N namespace, Object key, int order, Object value) {
+			this.namespace = namespace;
+			this.key = key;
 			this.order = order;
 			this.value = value;
 		}
 
 		private void close(CloseAction<N> closeAction) throws Throwable {
-			closeAction.close(this.compositeKey.namespace, this.compositeKey.key, this.value);
+			closeAction.close(this.namespace, this.key, this.value);
 		}
 
 	}
@@ -407,16 +494,18 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 
 		@Override
 		public Object get() {
-			if (this.value == NO_VALUE_SET) {
-				computeValue();
+			// single volatile read once the value has been computed
+			Object value = this.value;
+			if (value == NO_VALUE_SET) {
+				value = computeValue();
 			}
-			if (this.value instanceof Failure) {
-				throw ExceptionUtils.throwAsUncheckedException(((Failure) this.value).throwable);
+			if (value instanceof Failure) {
+				throw ExceptionUtils.throwAsUncheckedException(((Failure) value).throwable);
 			}
-			return this.value;
+			return value;
 		}
 
-		private synchronized void computeValue() {
+		private synchronized Object computeValue() {
 			try {
 				if (this.value == NO_VALUE_SET) {
 					this.value = this.delegate.get();
@@ -426,6 +515,7 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 				this.value = new Failure(t);
 				UnrecoverableExceptions.rethrowIfUnrecoverable(t);
 			}
+			return this.value;
 		}
 
 		private static class Failure {
@@ -456,6 +546,29 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 		 */
 		void close(N namespace, Object key, Object value) throws Throwable;
 
+		/**
+		 * Determine if this action acts on the supplied {@code value} or
+		 * ignores it.
+		 *
+		 * <p>A store that closes the values of different namespaces
+		 * concurrently skips values this action does not apply to and only
+		 * uses additional threads if more than one namespace contains values
+		 * it applies to. Since other stores may call
+		 * {@link #close(Object, Object, Object)} for all values, this action
+		 * must still ignore values it does not apply to.
+		 *
+		 * <p>Defaults to {@code true}.
+		 *
+		 * @param namespace the namespace; never {@code null}
+		 * @param key the key; never {@code null}
+		 * @param value the value; never {@code null}
+		 * @since 1.12
+		 */
+		@API(status = EXPERIMENTAL, since = "1.12")
+		default boolean appliesTo(N namespace, Object key, Object value) {
+			return true;
+		}
+
 	}
 
 }
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.api.io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.AnnotatedElementContext;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * Unit tests for {@link TempDirFactory.MemoryBacked}.
+ *
+ * @since 5.12
+ */
+class TempDirFactoryMemoryBackedTests {
+
+	private final AnnotatedElementContext elementContext = mock();
+	private final ExtensionContext extensionContext = mock();
+	private final TempDirFactory factory = new TempDirFactory.MemoryBacked();
+
+	private Path tempDir;
+
+	@AfterEach
+	void deleteTempDir() throws IOException {
+		if (tempDir != null) {
+			Files.delete(tempDir);
+		}
+	}
+
+	@Test
+	void createsTempDirInConfiguredDirectory(@TempDir Path parent) throws Exception {
+		configurePath(parent);
+
+		tempDir = factory.createTempDirectory(elementContext, extensionContext);
+
+		assertThat(tempDir).isDirectory().hasParent(parent);
+		assertThat(tempDir.getFileName().toString()).startsWith("junit-");
+	}
+
+	@Test
+	void fallsBackToDefaultLocationIfConfiguredDirectoryDoesNotExist(@TempDir Path parent) throws Exception {
+		configurePath(parent.resolve("missing"));
+
+		tempDir = factory.createTempDirectory(elementContext, extensionContext);
+
+		assertThat(tempDir).isDirectory().hasParent(defaultTempDir());
+	}
+
+	@Test
+	void fallsBackToDefaultLocationIfConfiguredDirectoryHasLessUsableSpaceThanBudget(@TempDir Path parent)
+			throws Exception {
+		configurePath(parent);
+		when(extensionContext.getConfigurationParameter(eq(TempDir.MEMORY_BACKED_BUDGET_PROPERTY_NAME),
+			any())).thenReturn(Optional.of(Long.MAX_VALUE));
+
+		tempDir = factory.createTempDirectory(elementContext, extensionContext);
+
+		assertThat(tempDir).isDirectory().hasParent(defaultTempDir());
+	}
+
+	@Test
+	void publishesSizeOfTempDirBeforeClose(@TempDir Path parent) throws Exception {
+		configurePath(parent);
+		tempDir = factory.createTempDirectory(elementContext, extensionContext);
+		var file = Files.write(tempDir.resolve("file"), new byte[42]);
+
+		factory.beforeClose(tempDir);
+		Files.delete(file);
+
+		verify(extensionContext).publishReportEntry(Map.of("tempDir", tempDir.toString(), "tempDir.bytes", "42"));
+	}
+
+	private void configurePath(Path path) {
+		when(extensionContext.getConfigurationParameter(eq(TempDir.MEMORY_BACKED_PATH_PROPERTY_NAME),
+			any())).thenReturn(Optional.of(path));
+	}
+
+	private static Path defaultTempDir() {
+		return Paths.get(System.getProperty("java.io.tmpdir"));
+	}
+
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.api.io;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.junit.jupiter.api.condition.OS.WINDOWS;
+import static org.mockito.Mockito.mock;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.extension.AnnotatedElementContext;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * Unit tests for {@link TempDirFactory.Seeded}.
+ *
+ * @since 5.12
+ */
+class TempDirFactorySeededTests {
+
+	private final AnnotatedElementContext elementContext = mock();
+	private final ExtensionContext extensionContext = mock();
+
+	@TempDir
+	Path template;
+
+	private Path tempDir;
+
+	@BeforeEach
+	void createTemplate() throws IOException {
+		Files.write(template.resolve("writable.txt"), "writable".getBytes(UTF_8));
+		Path subdirectory = Files.createDirectory(template.resolve("subdirectory"));
+		Files.write(subdirectory.resolve("nested.txt"), "nested".getBytes(UTF_8));
+	}
+
+	@AfterEach
+	void deleteTempDir() throws IOException {
+		if (tempDir != null) {
+			try (var paths = Files.walk(tempDir)) {
+				paths.sorted((a, b) -> b.compareTo(a)).forEach(path -> path.toFile().delete());
+			}
+		}
+	}
+
+	@Test
+	void copiesContentsOfTemplateDirectory() throws Exception {
+		tempDir = new Factory(template, false).createTempDirectory(elementContext, extensionContext);
+
+		assertThat(tempDir).isNotEqualTo(template);
+		assertThat(tempDir.resolve("writable.txt")).hasContent("writable");
+		assertThat(tempDir.resolve("subdirectory/nested.txt")).hasContent("nested");
+
+		Files.write(tempDir.resolve("subdirectory/nested.txt"), "changed".getBytes(UTF_8));
+		assertThat(template.resolve("subdirectory/nested.txt")).hasContent("nested");
+	}
+
+	@Test
+	@DisabledOnOs(WINDOWS)
+	void linksReadOnlyFilesIfEnabled() throws Exception {
+		Path readOnly = Files.write(template.resolve("read-only.txt"), "read-only".getBytes(UTF_8));
+		Files.setPosixFilePermissions(readOnly, PosixFilePermissions.fromString("r--r--r--"));
+		assumeFalse(Files.isWritable(readOnly), "current user may write to read-only files");
+
+		tempDir = new Factory(template, true).createTempDirectory(elementContext, extensionContext);
+
+		assertThat(Files.isSameFile(tempDir.resolve("read-only.txt"), readOnly)).isTrue();
+		assertThat(Files.isSameFile(tempDir.resolve("writable.txt"), template.resolve("writable.txt"))).isFalse();
+		assertThat(tempDir.resolve("subdirectory/nested.txt")).hasContent("nested");
+	}
+
+	@Test
+	@DisabledOnOs(WINDOWS)
+	void copiesReadOnlyFilesThatCurrentUserMayWriteTo() throws Exception {
+		Path readOnly = Files.write(template.resolve("read-only.txt"), "read-only".getBytes(UTF_8));
+		Files.setPosixFilePermissions(readOnly, PosixFilePermissions.fromString("r--r--r--"));
+		assumeTrue(Files.isWritable(readOnly), "current user may not write to read-only files");
+
+		tempDir = new Factory(template, true).createTempDirectory(elementContext, extensionContext);
+
+		assertThat(Files.isSameFile(tempDir.resolve("read-only.txt"), readOnly)).isFalse();
+		Files.write(tempDir.resolve("read-only.txt"), "changed".getBytes(UTF_8));
+		assertThat(readOnly).hasContent("read-only");
+	}
+
+	@Test
+	@DisabledOnOs(WINDOWS)
+	void copiesReadOnlyFilesIfLinkingIsDisabled() throws Exception {
+		Path readOnly = Files.write(template.resolve("read-only.txt"), "read-only".getBytes(UTF_8));
+		Files.setPosixFilePermissions(readOnly, PosixFilePermissions.fromString("r--r--r--"));
+
+		tempDir = new Factory(template, false).createTempDirectory(elementContext, extensionContext);
+
+		assertThat(Files.isSameFile(tempDir.resolve("read-only.txt"), readOnly)).isFalse();
+		assertThat(tempDir.resolve("read-only.txt")).hasContent("read-only");
+	}
+
+	@Test
+	void failsIfTemplateDirectoryDoesNotExist() {
+		var factory = new Factory(template.resolve("missing"), false);
+
+		assertThatExceptionOfType(IOException.class) //
+				.isThrownBy(() -> factory.createTempDirectory(elementContext, extensionContext)) //
+				.withMessage("Template directory does not exist: " + template.resolve("missing").toAbsolutePath());
+	}
+
+	private static class Factory extends TempDirFactory.Seeded {
+
+		Factory(Path template, boolean linkReadOnlyFiles) {
+			super(template, linkReadOnlyFiles);
+		}
+
+	}
+
+}
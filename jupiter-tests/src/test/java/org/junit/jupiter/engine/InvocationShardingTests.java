@@ -0,0 +1,212 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+import static org.junit.platform.testkit.engine.EventConditions.container;
+import static org.junit.platform.testkit.engine.EventConditions.event;
+import static org.junit.platform.testkit.engine.EventConditions.finishedWithFailure;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.message;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.testkit.engine.Events;
+
+/**
+ * Integration tests for sharding the invocations of test templates and the
+ * dynamic nodes of test factories via
+ * {@link Constants#INVOCATIONS_SHARD_INDEX_PROPERTY_NAME} and
+ * {@link Constants#INVOCATIONS_SHARD_COUNT_PROPERTY_NAME}.
+ *
+ * @since 5.12
+ */
+class InvocationShardingTests extends AbstractJupiterTestEngineTests {
+
+	@Test
+	void executesEveryOtherInvocationOfEachTestTemplateAndTestFactory() {
+		var events = executeShard("1", "2");
+
+		assertThat(displayNames(events)).contains("regularTest()");
+		assertThat(invocationIndicesByParent(events)).hasSize(3).allSatisfy(
+			(parent, indices) -> assertThat(indices).isIn(List.of(1, 3, 5), List.of(2, 4)));
+	}
+
+	@Test
+	void startsRoundRobinAssignmentAtShardDerivedFromUniqueIdOfEachTestTemplate() {
+		var firstShard = invocationIndicesByParent(executeShard(SingleInvocationTestCase.class, "0", "2"));
+		var secondShard = invocationIndicesByParent(executeShard(SingleInvocationTestCase.class, "1", "2"));
+
+		assertThat(firstShard).isNotEmpty();
+		assertThat(secondShard).isNotEmpty();
+		assertThat(firstShard.size() + secondShard.size()).isEqualTo(4);
+	}
+
+	@Test
+	void shardsCoverAllInvocationsWithSameUniqueIds() {
+		var allUniqueIds = uniqueIds(executeTests(request().selectors(selectClass(TestCase.class))).testEvents());
+
+		var shardedUniqueIds = new ArrayList<String>();
+		for (int index = 0; index < 3; index++) {
+			var uniqueIds = uniqueIds(executeShard(String.valueOf(index), "3"));
+			uniqueIds.removeIf(uniqueId -> uniqueId.endsWith("[method:regularTest()]"));
+			shardedUniqueIds.addAll(uniqueIds);
+		}
+
+		assertThat(allUniqueIds).hasSize(16);
+		assertThat(shardedUniqueIds).hasSize(15).doesNotHaveDuplicates();
+		assertThat(allUniqueIds).containsAll(shardedUniqueIds);
+	}
+
+	@Test
+	void rejectsShardIndexWithoutShardCount() {
+		var request = request() //
+				.selectors(selectClass(TestCase.class)) //
+				.configurationParameter(Constants.INVOCATIONS_SHARD_INDEX_PROPERTY_NAME, "0") //
+				.build();
+
+		executeTests(request).containerEvents().assertThatEvents() //
+				.haveExactly(1, event(container("repeatedTest"), finishedWithFailure(message(
+					"Configuration parameters 'junit.jupiter.invocations.shard.index' and "
+							+ "'junit.jupiter.invocations.shard.count' must be set together"))));
+	}
+
+	@Test
+	void rejectsShardIndexOutOfRange() {
+		executeTests(shardRequest("2", "2").build()).containerEvents().assertThatEvents() //
+				.haveExactly(1, event(container("repeatedTest"), finishedWithFailure(message(
+					"Invalid value for configuration parameter 'junit.jupiter.invocations.shard.index': 2; "
+							+ "must be between 0 and 1"))));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "0", "1" })
+	void validatesDynamicNodesOutsideOfCurrentShard(String index) {
+		var request = shardRequest(InvalidDynamicNodesTestCase.class, index, "2").build();
+
+		executeTests(request).containerEvents().assertThatEvents() //
+				.haveExactly(1, event(container("nullNode"), //
+					finishedWithFailure(message("individual dynamic node must not be null")))) //
+				.haveExactly(1, event(container("invalidNode"), //
+					finishedWithFailure(message(it -> it.contains("must return a single")))));
+	}
+
+	private Events executeShard(String index, String count) {
+		return executeShard(TestCase.class, index, count);
+	}
+
+	private Events executeShard(Class<?> testClass, String index, String count) {
+		return executeTests(shardRequest(testClass, index, count).build()).testEvents();
+	}
+
+	private static LauncherDiscoveryRequestBuilder shardRequest(String index, String count) {
+		return shardRequest(TestCase.class, index, count);
+	}
+
+	private static LauncherDiscoveryRequestBuilder shardRequest(Class<?> testClass, String index, String count) {
+		return request() //
+				.selectors(selectClass(testClass)) //
+				.configurationParameter(Constants.INVOCATIONS_SHARD_INDEX_PROPERTY_NAME, index) //
+				.configurationParameter(Constants.INVOCATIONS_SHARD_COUNT_PROPERTY_NAME, count);
+	}
+
+	private static List<String> displayNames(Events events) {
+		return events.started().map(event -> event.getTestDescriptor().getDisplayName()).toList();
+	}
+
+	private static List<String> uniqueIds(Events events) {
+		return new ArrayList<>(
+			events.started().map(event -> event.getTestDescriptor().getUniqueId().toString()).toList());
+	}
+
+	private static Map<UniqueId, List<Integer>> invocationIndicesByParent(Events events) {
+		return events.started() //
+				.map(event -> event.getTestDescriptor().getUniqueId()) //
+				.filter(uniqueId -> uniqueId.getLastSegment().getValue().startsWith("#")) //
+				.collect(groupingBy(UniqueId::removeLastSegment, mapping(
+					uniqueId -> Integer.parseInt(uniqueId.getLastSegment().getValue().substring(1)), toList())));
+	}
+
+	static class TestCase {
+
+		@Test
+		void regularTest() {
+		}
+
+		@RepeatedTest(5)
+		void repeatedTest() {
+		}
+
+		@TestFactory
+		Stream<DynamicTest> testFactory() {
+			return IntStream.rangeClosed(1, 5).mapToObj(i -> dynamicTest("dynamic " + i, () -> {
+			}));
+		}
+
+		@ParameterizedTest
+		@ValueSource(ints = { 1, 2, 3, 4, 5 })
+		void parameterizedTest(int i) {
+		}
+	}
+
+	static class SingleInvocationTestCase {
+
+		@RepeatedTest(1)
+		void first() {
+		}
+
+		@RepeatedTest(1)
+		void second() {
+		}
+
+		@RepeatedTest(1)
+		void third() {
+		}
+
+		@RepeatedTest(1)
+		void fourth() {
+		}
+	}
+
+	static class InvalidDynamicNodesTestCase {
+
+		@TestFactory
+		Stream<DynamicTest> nullNode() {
+			return Stream.of(dynamicTest("dynamic 1", () -> {
+			}), null);
+		}
+
+		@TestFactory
+		@SuppressWarnings({ "rawtypes", "unchecked" })
+		Stream<DynamicTest> invalidNode() {
+			return (Stream) Stream.of(dynamicTest("dynamic 1", () -> {
+			}), "dynamic 2");
+		}
+	}
+
+}
@@ -12,9 +12,12 @@ package org.junit.jupiter.engine;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.api.TestInstance.Lifecycle.PER_CLASS;
+import static org.junit.jupiter.api.parallel.ExecutionMode.SAME_THREAD;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectMethod;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectUniqueId;
@@ -33,11 +36,17 @@ import static org.junit.platform.testkit.engine.TestExecutionResultConditions.me
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.assertj.core.api.Condition;
@@ -47,6 +56,7 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.TestTemplate;
 import org.junit.jupiter.api.extension.AfterEachCallback;
 import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
@@ -64,7 +74,9 @@ import org.junit.jupiter.api.extension.TestExecutionExceptionHandler;
 import org.junit.jupiter.api.extension.TestInstancePostProcessor;
 import org.junit.jupiter.api.extension.TestTemplateInvocationContext;
 import org.junit.jupiter.api.extension.TestTemplateInvocationContextProvider;
+import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.engine.descriptor.TestTemplateInvocationTestDescriptor;
+import org.junit.platform.engine.DiscoverySelector;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.launcher.LauncherDiscoveryRequest;
@@ -408,6 +420,111 @@ class TestTemplateInvocationTests extends AbstractJupiterTestEngineTests {
 				event(container("templateWithCloseableStream"), finishedSuccessfully())));
 	}
 
+	@Test
+	void invocationContextsAreRequestedOnDemandInStreamingMode() {
+		LazyInvocationContextProvider.events.clear();
+		LauncherDiscoveryRequest request = request() //
+				.selectors(selectMethod(MyTestTemplateTestCase.class, "templateWithLazyInvocationContexts", //
+					TestInfo.class.getName())) //
+				.configurationParameter(Constants.TEST_TEMPLATE_STREAMING_ENABLED_PROPERTY_NAME, "true") //
+				.configurationParameter(Constants.PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME, "true") //
+				.configurationParameter(Constants.DEFAULT_PARALLEL_EXECUTION_MODE, "concurrent") //
+				.build();
+
+		executeTests(request).testEvents().assertStatistics(stats -> stats.started(3).succeeded(3));
+
+		assertThat(LazyInvocationContextProvider.events).containsExactly( //
+			"provide [1]", "invoke [1]", //
+			"provide [2]", "invoke [2]", //
+			"provide [3]", "invoke [3]");
+	}
+
+	@Test
+	void invocationsAreExecutedConcurrentlyAndReportedInOrderIfConcurrencyIsConfigured() {
+		ConcurrentInvocationContextProvider.reset();
+
+		Events testEvents = executeTests(concurrentInvocationsRequest()).testEvents();
+
+		testEvents.assertStatistics(stats -> stats.started(4).succeeded(4));
+		assertThat(testEvents.map(event -> event.getType() + " " + event.getTestDescriptor().getDisplayName())) //
+				.containsExactly( //
+					"DYNAMIC_TEST_REGISTERED [1]", "STARTED [1]", "FINISHED [1]", //
+					"DYNAMIC_TEST_REGISTERED [2]", "STARTED [2]", "FINISHED [2]", //
+					"DYNAMIC_TEST_REGISTERED [3]", "STARTED [3]", "FINISHED [3]", //
+					"DYNAMIC_TEST_REGISTERED [4]", "STARTED [4]", "FINISHED [4]");
+		assertThat(ConcurrentInvocationContextProvider.maxRunningInvocations).hasValue(2);
+	}
+
+	@Test
+	void eventsOfOldestPendingInvocationAreReportedAsTheyHappenIfConcurrencyIsConfigured() {
+		ConcurrentInvocationContextProvider.reset();
+
+		Events testEvents = executeTests(concurrentInvocationsRequest()).testEvents();
+
+		testEvents.assertStatistics(stats -> stats.started(4).succeeded(4));
+		var firstInvocationStarted = timestamp(testEvents.started(), "[1]");
+		var firstInvocationFinished = timestamp(testEvents.finished(), "[1]");
+		var secondInvocationStarted = timestamp(testEvents.started(), "[2]");
+		// the first invocation takes at least 100 ms, during which the second one finishes
+		assertThat(Duration.between(firstInvocationStarted, firstInvocationFinished)) //
+				.isGreaterThanOrEqualTo(Duration.ofMillis(100));
+		assertThat(ConcurrentInvocationContextProvider.secondInvocationFinished).isBetween(firstInvocationStarted,
+			firstInvocationFinished);
+		assertThat(secondInvocationStarted).isAfterOrEqualTo(firstInvocationFinished);
+	}
+
+	@Test
+	void invocationsAreExecutedSequentiallyIfEnclosingClassDeclaresSameThreadExecutionMode() {
+		assertInvocationsAreExecutedSequentiallyIfConcurrencyIsConfigured(SameThreadTestTemplateTestCase.class);
+	}
+
+	@Test
+	void invocationsAreExecutedSequentiallyIfEnclosingClassUsesPerClassLifecycle() {
+		assertInvocationsAreExecutedSequentiallyIfConcurrencyIsConfigured(PerClassTestTemplateTestCase.class);
+	}
+
+	private void assertInvocationsAreExecutedSequentiallyIfConcurrencyIsConfigured(Class<?> testClass) {
+		ConcurrentInvocationContextProvider.reset();
+
+		executeTests(concurrentInvocationsRequest(selectClass(testClass))).testEvents() //
+				.assertStatistics(stats -> stats.started(4).succeeded(4));
+
+		assertThat(ConcurrentInvocationContextProvider.maxRunningInvocations).hasValue(1);
+	}
+
+	private static LauncherDiscoveryRequest concurrentInvocationsRequest() {
+		return concurrentInvocationsRequest(selectMethod(MyTestTemplateTestCase.class,
+			"templateWithConcurrentInvocations", TestInfo.class.getName()));
+	}
+
+	private static LauncherDiscoveryRequest concurrentInvocationsRequest(DiscoverySelector selector) {
+		return request() //
+				.selectors(selector) //
+				.configurationParameter(Constants.TEST_TEMPLATE_CONCURRENCY_PROPERTY_NAME, "2") //
+				.configurationParameter(Constants.PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME, "true") //
+				.configurationParameter(Constants.PARALLEL_CONFIG_STRATEGY_PROPERTY_NAME, "fixed") //
+				.configurationParameter(Constants.PARALLEL_CONFIG_FIXED_PARALLELISM_PROPERTY_NAME, "4") //
+				.build();
+	}
+
+	private static Instant timestamp(Events events, String displayName) {
+		return events.filter(event -> event.getTestDescriptor().getDisplayName().equals(displayName)) //
+				.findFirst().orElseThrow().getTimestamp();
+	}
+
+	@Test
+	void rejectsNonPositiveTestTemplateConcurrency() {
+		LauncherDiscoveryRequest request = request() //
+				.selectors(selectMethod(MyTestTemplateTestCase.class, "templateWithCloseableStream")) //
+				.configurationParameter(Constants.TEST_TEMPLATE_CONCURRENCY_PROPERTY_NAME, "0") //
+				.build();
+
+		executeTests(request).containerEvents().assertThatEvents() //
+				.haveExactly(1, event(container("templateWithCloseableStream"), finishedWithFailure(message(
+					"Invalid value for configuration parameter 'junit.jupiter.testtemplate.concurrency': 0; "
+							+ "must be greater than zero"))));
+	}
+
 	private TestDescriptor findTestDescriptor(EngineExecutionResults executionResults, Condition<Event> condition) {
 		// @formatter:off
 		return executionResults.allEvents()
@@ -518,6 +635,38 @@ class TestTemplateInvocationTests extends AbstractJupiterTestEngineTests {
 		@TestTemplate
 		void templateWithCloseableStream() {
 		}
+
+		@ExtendWith(ConcurrentInvocationContextProvider.class)
+		@TestTemplate
+		void templateWithConcurrentInvocations(TestInfo testInfo) throws Exception {
+			ConcurrentInvocationContextProvider.invoke(testInfo.getDisplayName());
+		}
+
+		@ExtendWith(LazyInvocationContextProvider.class)
+		@TestTemplate
+		void templateWithLazyInvocationContexts(TestInfo testInfo) {
+			LazyInvocationContextProvider.events.add("invoke " + testInfo.getDisplayName());
+		}
+	}
+
+	@Execution(SAME_THREAD)
+	static class SameThreadTestTemplateTestCase {
+
+		@ExtendWith(ConcurrentInvocationContextProvider.class)
+		@TestTemplate
+		void template() throws Exception {
+			ConcurrentInvocationContextProvider.invokeSlowly();
+		}
+	}
+
+	@TestInstance(PER_CLASS)
+	static class PerClassTestTemplateTestCase {
+
+		@ExtendWith(ConcurrentInvocationContextProvider.class)
+		@TestTemplate
+		void template() throws Exception {
+			ConcurrentInvocationContextProvider.invokeSlowly();
+		}
 	}
 
 	@ExtendWith(StringParameterResolvingInvocationContextProvider.class)
@@ -847,6 +996,79 @@ class TestTemplateInvocationTests extends AbstractJupiterTestEngineTests {
 		}
 	}
 
+	private static class ConcurrentInvocationContextProvider implements TestTemplateInvocationContextProvider {
+
+		private static final AtomicInteger runningInvocations = new AtomicInteger();
+		private static final AtomicInteger maxRunningInvocations = new AtomicInteger();
+		private static CountDownLatch firstTwoInvocationsStarted;
+		private static volatile Instant secondInvocationFinished;
+
+		static void reset() {
+			runningInvocations.set(0);
+			maxRunningInvocations.set(0);
+			firstTwoInvocationsStarted = new CountDownLatch(2);
+			secondInvocationFinished = null;
+		}
+
+		static void invoke(String displayName) throws InterruptedException {
+			maxRunningInvocations.accumulateAndGet(runningInvocations.incrementAndGet(), Math::max);
+			try {
+				if (displayName.equals("[1]") || displayName.equals("[2]")) {
+					firstTwoInvocationsStarted.countDown();
+					assertThat(firstTwoInvocationsStarted.await(10, SECONDS)).isTrue();
+				}
+				if (displayName.equals("[1]")) {
+					// let the second invocation finish first
+					Thread.sleep(100);
+				}
+			}
+			finally {
+				runningInvocations.decrementAndGet();
+				if (displayName.equals("[2]")) {
+					secondInvocationFinished = Instant.now();
+				}
+			}
+		}
+
+		static void invokeSlowly() throws InterruptedException {
+			maxRunningInvocations.accumulateAndGet(runningInvocations.incrementAndGet(), Math::max);
+			try {
+				Thread.sleep(50);
+			}
+			finally {
+				runningInvocations.decrementAndGet();
+			}
+		}
+
+		@Override
+		public boolean supportsTestTemplate(ExtensionContext context) {
+			return true;
+		}
+
+		@Override
+		public Stream<TestTemplateInvocationContext> provideTestTemplateInvocationContexts(ExtensionContext context) {
+			return IntStream.rangeClosed(1, 4).mapToObj(__ -> emptyTestTemplateInvocationContext());
+		}
+	}
+
+	private static class LazyInvocationContextProvider implements TestTemplateInvocationContextProvider {
+
+		private static final List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+		@Override
+		public boolean supportsTestTemplate(ExtensionContext context) {
+			return true;
+		}
+
+		@Override
+		public Stream<TestTemplateInvocationContext> provideTestTemplateInvocationContexts(ExtensionContext context) {
+			return IntStream.rangeClosed(1, 3).mapToObj(index -> {
+				events.add("provide [" + index + "]");
+				return emptyTestTemplateInvocationContext();
+			});
+		}
+	}
+
 	private static TestTemplateInvocationContext emptyTestTemplateInvocationContext() {
 		return new TestTemplateInvocationContext() {
 		};
@@ -18,6 +18,8 @@ import static org.junit.jupiter.api.TestInstance.Lifecycle.PER_METHOD;
 import static org.junit.jupiter.api.io.CleanupMode.ALWAYS;
 import static org.junit.jupiter.engine.Constants.DEFAULT_TEST_INSTANCE_LIFECYCLE_PROPERTY_NAME;
 import static org.junit.platform.launcher.core.OutputDirectoryProviders.dummyOutputDirectoryProvider;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -151,6 +153,34 @@ class DefaultJupiterConfigurationTests {
 		assertThat(supplier.get()).isSameAs(TempDirFactory.Standard.INSTANCE);
 	}
 
+	@Test
+	void shouldCloseStoresSequentiallyWithoutConfigParamSet() {
+		JupiterConfiguration configuration = new DefaultJupiterConfiguration(mock(), dummyOutputDirectoryProvider());
+
+		assertThat(configuration.getExtensionStoreCloseParallelism()).isEqualTo(1);
+	}
+
+	@Test
+	void shouldNotStreamTestTemplateInvocationsWithoutConfigParamSet() {
+		JupiterConfiguration configuration = new DefaultJupiterConfiguration(mock(), dummyOutputDirectoryProvider());
+
+		assertThat(configuration.isTestTemplateStreamingEnabled()).isFalse();
+	}
+
+	@Test
+	void shouldRejectNonPositiveStoreCloseParallelism() {
+		ConfigurationParameters parameters = mock();
+		String key = Constants.EXTENSIONS_STORE_CLOSE_PARALLELISM_PROPERTY_NAME;
+		when(parameters.get(eq(key), any())).thenReturn(Optional.of(0));
+		JupiterConfiguration configuration = new DefaultJupiterConfiguration(parameters,
+			dummyOutputDirectoryProvider());
+
+		PreconditionViolationException exception = assertThrows(PreconditionViolationException.class,
+			configuration::getExtensionStoreCloseParallelism);
+		assertThat(exception).hasMessage(
+			"Invalid value for configuration parameter '%s': 0; must be greater than zero", key);
+	}
+
 	private void assertDefaultConfigParam(String configValue, Lifecycle expected) {
 		ConfigurationParameters configParams = mock();
 		when(configParams.get(KEY)).thenReturn(Optional.ofNullable(configValue));
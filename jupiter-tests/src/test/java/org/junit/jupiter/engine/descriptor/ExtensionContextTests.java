@@ -16,10 +16,12 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.junit.jupiter.api.Named.named;
 import static org.junit.platform.launcher.core.OutputDirectoryProviders.dummyOutputDirectoryProvider;
 import static org.junit.platform.launcher.core.OutputDirectoryProviders.hierarchicalOutputDirectoryProvider;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
@@ -44,6 +46,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.Extension;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.jupiter.api.extension.ExtensionContext.Store.CloseableResource;
+import org.junit.jupiter.api.extension.ExtensionContextException;
 import org.junit.jupiter.api.extension.MediaType;
 import org.junit.jupiter.api.extension.PreInterruptCallback;
 import org.junit.jupiter.api.io.TempDir;
@@ -83,6 +87,7 @@ public class ExtensionContextTests {
 		when(configuration.getDefaultExecutionMode()).thenReturn(ExecutionMode.SAME_THREAD);
 		when(configuration.getDefaultClassesExecutionMode()).thenReturn(ExecutionMode.SAME_THREAD);
 		when(configuration.getOutputDirectoryProvider()).thenReturn(dummyOutputDirectoryProvider());
+		when(configuration.getExtensionStoreCloseParallelism()).thenReturn(1);
 	}
 
 	@Test
@@ -387,6 +392,57 @@ public class ExtensionContextTests {
 		assertEquals(parentValue, childStore.get(parentKey));
 	}
 
+	@Test
+	@SuppressWarnings("resource")
+	void sharedFixtureIsStoredInRootStoreByDefault() {
+		var engineTestDescriptor = new JupiterEngineDescriptor(UniqueId.root("engine", "junit-jupiter"), configuration);
+		var engineContext = new JupiterEngineExtensionContext(null, engineTestDescriptor, configuration,
+			extensionRegistry);
+		ExtensionContext extensionContext = mock();
+		when(extensionContext.getRoot()).thenReturn(engineContext);
+		when(extensionContext.getOrComputeSharedFixture(any(), any(), any(), any())).thenCallRealMethod();
+
+		var fixture = extensionContext.getOrComputeSharedFixture(Extension.class, "key", key -> "fixture",
+			String.class);
+
+		assertEquals("fixture", fixture);
+		assertEquals("fixture", engineContext.getStore(Namespace.create(Extension.class)).get("key"));
+		assertEquals("fixture", extensionContext.getOrComputeSharedFixture(Extension.class, "key",
+			key -> "other fixture", String.class));
+	}
+
+	@Test
+	void storeRequestedAfterContextHasBeenClosedIsClosed() {
+		var classTestDescriptor = outerClassDescriptor(null);
+		var extensionContext = new ClassExtensionContext(null, null, classTestDescriptor, configuration,
+			extensionRegistry, null);
+
+		extensionContext.close();
+		var store = extensionContext.getStore(Namespace.GLOBAL);
+
+		assertThrows(ExtensionContextException.class, () -> store.put("key", "value"));
+	}
+
+	@Test
+	void closesStoreCreatedBeforeContextIsClosed() {
+		var classTestDescriptor = outerClassDescriptor(null);
+		var extensionContext = new ClassExtensionContext(null, null, classTestDescriptor, configuration,
+			extensionRegistry, null);
+		var resource = new CloseableResource() {
+			boolean closed;
+
+			@Override
+			public void close() {
+				closed = true;
+			}
+		};
+
+		extensionContext.getStore(Namespace.GLOBAL).put("resource", resource);
+		extensionContext.close();
+
+		assertTrue(resource.closed);
+	}
+
 	@ParameterizedTest
 	@MethodSource("extensionContextFactories")
 	void configurationParameter(Function<JupiterConfiguration, ? extends ExtensionContext> extensionContextFactory) {
@@ -13,6 +13,7 @@ package org.junit.jupiter.engine.extension;
 import static com.google.common.jimfs.Configuration.unix;
 import static java.lang.annotation.ElementType.METHOD;
 import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static java.nio.file.Files.createDirectories;
 import static java.nio.file.Files.createDirectory;
 import static java.nio.file.Files.createFile;
 import static java.nio.file.Files.createSymbolicLink;
@@ -27,6 +28,9 @@ import static org.junit.jupiter.api.io.CleanupMode.DEFAULT;
 import static org.junit.jupiter.api.io.CleanupMode.NEVER;
 import static org.junit.jupiter.api.io.CleanupMode.ON_SUCCESS;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.spy;
@@ -42,9 +46,15 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
+import java.nio.file.AccessDeniedException;
 import java.nio.file.FileSystem;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 
@@ -68,6 +78,7 @@ import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.api.io.TempDirFactory;
 import org.junit.jupiter.engine.AbstractJupiterTestEngineTests;
 import org.junit.jupiter.engine.execution.NamespaceAwareStore;
+import org.junit.jupiter.engine.extension.TempDirectory.FileOperations;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.junit.platform.commons.PreconditionViolationException;
@@ -93,9 +104,12 @@ class CloseablePathTests extends AbstractJupiterTestEngineTests {
 	private @interface ElementTypeSource {
 	}
 
+	private final NamespaceAwareStore store = new NamespaceAwareStore(new NamespacedHierarchicalStore<>(null),
+		Namespace.GLOBAL);
+
 	@BeforeEach
 	void setUpExtensionContext() {
-		var store = new NamespaceAwareStore(new NamespacedHierarchicalStore<>(null), Namespace.GLOBAL);
+		when(extensionContext.getRoot()).thenReturn(extensionContext);
 		when(extensionContext.getStore(any())).thenReturn(store);
 	}
 
@@ -395,6 +409,184 @@ class CloseablePathTests extends AbstractJupiterTestEngineTests {
 					.noneMatch(m -> m.startsWith("Skipping cleanup of temp dir"));
 		}
 
+		@Test
+		@DisabledOnOs(WINDOWS)
+		@DisplayName("does not reset permissions of hard linked files")
+		void doesNotResetPermissionsOfHardLinkedFiles(@TempDir Path template) throws Throwable {
+			var readOnly = Files.write(template.resolve("read-only.txt"), new byte[0]);
+			Files.setPosixFilePermissions(readOnly, PosixFilePermissions.fromString("r--r--r--"));
+			Set<Path> failedPaths = ConcurrentHashMap.newKeySet();
+			store.put(TempDirectory.FILE_OPERATIONS_KEY, (FileOperations) path -> {
+				if (path.endsWith("linked.txt") && failedPaths.add(path)) {
+					throw new AccessDeniedException(path.toString());
+				}
+				Files.delete(path);
+			});
+
+			closeablePath = TempDirectory.createTempDir(factory, ALWAYS, Path.class, elementContext, extensionContext);
+			Files.createLink(closeablePath.get().resolve("linked.txt"), readOnly);
+
+			closeablePath.close();
+
+			assertThat(closeablePath.get()).doesNotExist();
+			assertThat(failedPaths).hasSize(1);
+			assertThat(Files.getPosixFilePermissions(readOnly)).isEqualTo(
+				PosixFilePermissions.fromString("r--r--r--"));
+		}
+
+		@Test
+		@DisplayName("deletes subdirectories on the calling thread by default")
+		void deletesSubdirectoriesSequentiallyByDefault() throws Throwable {
+			Set<Thread> deletingThreads = ConcurrentHashMap.newKeySet();
+			store.put(TempDirectory.FILE_OPERATIONS_KEY, (FileOperations) path -> {
+				deletingThreads.add(Thread.currentThread());
+				Files.delete(path);
+			});
+
+			closeablePath = TempDirectory.createTempDir(factory, ALWAYS, Path.class, elementContext, extensionContext);
+			createTree(closeablePath.get());
+
+			closeablePath.close();
+
+			assertThat(closeablePath.get()).doesNotExist();
+			assertThat(deletingThreads).containsExactly(Thread.currentThread());
+			TempDirectory.Deleter.get(extensionContext).close();
+		}
+
+		@Test
+		@DisplayName("deletes subdirectories in the background if done asynchronously")
+		void deletesSubdirectoriesInBackgroundIfDoneAsynchronously() throws Throwable {
+			enableAsynchronousCleanup();
+			Set<Thread> deletingThreads = ConcurrentHashMap.newKeySet();
+			store.put(TempDirectory.FILE_OPERATIONS_KEY, (FileOperations) path -> {
+				deletingThreads.add(Thread.currentThread());
+				Files.delete(path);
+			});
+
+			closeablePath = TempDirectory.createTempDir(factory, ALWAYS, Path.class, elementContext, extensionContext);
+			createTree(closeablePath.get());
+
+			closeablePath.close();
+			TempDirectory.Deleter.get(extensionContext).close();
+
+			assertThat(closeablePath.get()).doesNotExist();
+			assertThat(deletingThreads).isNotEmpty().doesNotContain(Thread.currentThread());
+		}
+
+		@Test
+		@DisplayName("is done asynchronously if enabled")
+		void asynchronously() throws Throwable {
+			reset(factory);
+			enableAsynchronousCleanup();
+
+			closeablePath = TempDirectory.createTempDir(factory, ALWAYS, Path.class, elementContext, extensionContext);
+			createTree(closeablePath.get());
+			var trash = closeablePath.get().resolveSibling(closeablePath.get().getFileName() + ".trash");
+
+			closeablePath.close();
+			assertThat(closeablePath.get()).doesNotExist();
+
+			TempDirectory.Deleter.get(extensionContext).close();
+			verify(factory).close();
+			assertThat(trash).doesNotExist();
+		}
+
+		@Test
+		@DisplayName("reports failures of asynchronous deletion when all tests have been executed")
+		void reportsFailuresOfAsynchronousDeletion() throws Throwable {
+			enableAsynchronousCleanup();
+			store.put(TempDirectory.FILE_OPERATIONS_KEY, (FileOperations) path -> {
+				if (path.endsWith("undeletable")) {
+					throw new IOException("Simulated failure");
+				}
+				Files.delete(path);
+			});
+
+			closeablePath = TempDirectory.createTempDir(factory, ALWAYS, Path.class, elementContext, extensionContext);
+			createFile(closeablePath.get().resolve("undeletable"));
+			var trash = closeablePath.get().resolveSibling(closeablePath.get().getFileName() + ".trash");
+
+			closeablePath.close();
+
+			assertThatExceptionOfType(IOException.class) //
+					.isThrownBy(() -> TempDirectory.Deleter.get(extensionContext).close()) //
+					.withMessageStartingWith("Failed to delete temp directory " + trash.toAbsolutePath());
+			delete(trash.resolve("undeletable"));
+			delete(trash);
+		}
+
+		@Test
+		@DisplayName("notifies factory before cleaning up")
+		void notifiesFactoryBeforeCleaningUp() throws Throwable {
+			reset(factory);
+			doAnswer(invocation -> {
+				assertThat(invocation.<Path> getArgument(0)).isDirectory();
+				throw new IOException("Simulated failure");
+			}).when(factory).beforeClose(any());
+
+			closeablePath = TempDirectory.createTempDir(factory, ALWAYS, Path.class, elementContext, extensionContext);
+
+			assertThatExceptionOfType(IOException.class) //
+					.isThrownBy(closeablePath::close) //
+					.withMessage("Simulated failure");
+			var inOrder = inOrder(factory);
+			inOrder.verify(factory).beforeClose(closeablePath.get());
+			inOrder.verify(factory).close();
+			assertThat(closeablePath.get()).doesNotExist();
+		}
+
+		@Test
+		@DisplayName("publishes size of memory-backed temp dir")
+		void publishesSizeOfMemoryBackedTempDir(@TempDir Path parent) throws Throwable {
+			when(extensionContext.getConfigurationParameter(eq(TempDir.MEMORY_BACKED_PATH_PROPERTY_NAME),
+				any())).thenReturn(Optional.of(parent));
+
+			closeablePath = TempDirectory.createTempDir(new TempDirFactory.MemoryBacked(), ALWAYS, Path.class,
+				elementContext, extensionContext);
+			assertThat(closeablePath.get().getParent()).isEqualTo(parent);
+			Files.write(createDirectory(closeablePath.get().resolve("subdir")).resolve("file"), new byte[42]);
+
+			closeablePath.close();
+
+			verify(extensionContext).publishReportEntry(
+				Map.of("tempDir", closeablePath.get().toString(), "tempDir.bytes", "42"));
+			assertThat(closeablePath.get()).doesNotExist();
+		}
+
+		@Test
+		@DisplayName("fails if memory-backed temp dir exceeds budget")
+		void failsIfMemoryBackedTempDirExceedsBudget(@TempDir Path parent) throws Throwable {
+			when(extensionContext.getConfigurationParameter(eq(TempDir.MEMORY_BACKED_PATH_PROPERTY_NAME),
+				any())).thenReturn(Optional.of(parent));
+			when(extensionContext.getConfigurationParameter(eq(TempDir.MEMORY_BACKED_BUDGET_PROPERTY_NAME),
+				any())).thenReturn(Optional.of(10L));
+
+			closeablePath = TempDirectory.createTempDir(new TempDirFactory.MemoryBacked(), ALWAYS, Path.class,
+				elementContext, extensionContext);
+			Files.write(closeablePath.get().resolve("file"), new byte[11]);
+
+			assertThatExceptionOfType(IOException.class) //
+					.isThrownBy(closeablePath::close) //
+					.withMessage("Temp directory %s contained 11 bytes at the end of its scope which exceeds the "
+							+ "budget of 10 bytes configured via the '%s' configuration parameter.",
+						closeablePath.get(), TempDir.MEMORY_BACKED_BUDGET_PROPERTY_NAME);
+			assertThat(closeablePath.get()).doesNotExist();
+		}
+
+		private void enableAsynchronousCleanup() {
+			when(extensionContext.getConfigurationParameter(eq(TempDir.ASYNC_CLEANUP_ENABLED_PROPERTY_NAME),
+				any())).thenReturn(Optional.of(true));
+		}
+
+		private static void createTree(Path root) throws IOException {
+			for (int i = 0; i < 8; i++) {
+				var dir = createDirectories(root.resolve("dir" + i).resolve("subdir"));
+				for (int j = 0; j < 8; j++) {
+					createFile(dir.resolve("file" + j));
+				}
+			}
+		}
+
 	}
 
 	static class TestCase {
@@ -10,6 +10,7 @@
 
 package org.junit.jupiter.engine.extension;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.junit.jupiter.engine.Constants.DEACTIVATE_CONDITIONS_PATTERN_PROPERTY_NAME;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
@@ -19,13 +20,19 @@ import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.extension.ConditionEvaluationResult;
 import org.junit.jupiter.api.extension.ExecutionCondition;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.engine.AbstractJupiterTestEngineTests;
 import org.junit.jupiter.engine.JupiterTestEngine;
 import org.junit.jupiter.engine.extension.sub.AlwaysDisabledCondition;
@@ -47,6 +54,7 @@ class ExecutionConditionTests extends AbstractJupiterTestEngineTests {
 	private static final String FOO = "DisabledTests.foo";
 	private static final String BAR = "DisabledTests.bar";
 	private static final String BOGUS = "DisabledTests.bogus";
+	private static final String MUTABLE = "ExecutionConditionTests.mutable";
 	private static final String DEACTIVATE = "*AnotherAlwaysDisable*, org.junit.jupiter.engine.extension.sub.AlwaysDisable*";
 
 	@BeforeEach
@@ -57,6 +65,7 @@ class ExecutionConditionTests extends AbstractJupiterTestEngineTests {
 	@AfterEach
 	public void tearDown() {
 		System.clearProperty(FOO);
+		System.clearProperty(MUTABLE);
 	}
 
 	@Test
@@ -121,6 +130,38 @@ class ExecutionConditionTests extends AbstractJupiterTestEngineTests {
 		assertExecutionConditionOverride(deactivatePattern, 4, 2, 2);
 	}
 
+	@Test
+	void resultsOfConditionsThatAreDeterministicPerElementAreCached() {
+		DeterministicCountingCondition.evaluations.set(0);
+		NonDeterministicCountingCondition.evaluations.set(0);
+
+		Events tests = executeTestsForClass(TestCaseWithCountingConditions.class).testEvents();
+
+		tests.assertStatistics(stats -> stats.started(3).succeeded(3));
+		assertEquals(1, DeterministicCountingCondition.evaluations.get());
+		assertEquals(4, NonDeterministicCountingCondition.evaluations.get());
+	}
+
+	@Test
+	void systemPropertyConditionIsReevaluatedForEachRepetition() {
+		Events tests = executeTestsForClass(TestCaseWithMutableSystemPropertyCondition.class).testEvents();
+
+		tests.assertStatistics(stats -> stats.started(1).succeeded(1).skipped(2));
+	}
+
+	@Test
+	void systemPropertyConditionIsReevaluatedForInheritedMethodInEachSubclass() {
+		// @formatter:off
+		LauncherDiscoveryRequest request = request()
+				.selectors(
+					selectClass(EnabledSubclassOfTestCaseWithInheritedSystemPropertyCondition.class),
+					selectClass(DisabledSubclassOfTestCaseWithInheritedSystemPropertyCondition.class))
+				.build();
+		// @formatter:on
+
+		executeTests(request).testEvents().assertStatistics(stats -> stats.started(1).succeeded(1).skipped(1));
+	}
+
 	private void assertExecutionConditionOverride(String deactivatePattern, int testStartedCount, int testFailedCount) {
 		// @formatter:off
 		LauncherDiscoveryRequest request = request()
@@ -203,6 +244,90 @@ class ExecutionConditionTests extends AbstractJupiterTestEngineTests {
 
 	}
 
+	static class TestCaseWithCountingConditions {
+
+		@RepeatedTest(3)
+		@ExtendWith({ DeterministicCountingCondition.class, NonDeterministicCountingCondition.class })
+		void repeatedTest() {
+		}
+
+	}
+
+	static class TestCaseWithMutableSystemPropertyCondition {
+
+		@BeforeAll
+		static void enable() {
+			System.setProperty(MUTABLE, "true");
+		}
+
+		@BeforeEach
+		void disableSubsequentRepetitions() {
+			System.setProperty(MUTABLE, "false");
+		}
+
+		@RepeatedTest(3)
+		@EnabledIfSystemProperty(named = MUTABLE, matches = "true")
+		void repeatedTest() {
+		}
+
+	}
+
+	abstract static class TestCaseWithInheritedSystemPropertyCondition {
+
+		@Test
+		@EnabledIfSystemProperty(named = MUTABLE, matches = "true")
+		void inheritedTest() {
+		}
+
+	}
+
+	static class EnabledSubclassOfTestCaseWithInheritedSystemPropertyCondition
+			extends TestCaseWithInheritedSystemPropertyCondition {
+
+		@BeforeAll
+		static void enable() {
+			System.setProperty(MUTABLE, "true");
+		}
+
+	}
+
+	static class DisabledSubclassOfTestCaseWithInheritedSystemPropertyCondition
+			extends TestCaseWithInheritedSystemPropertyCondition {
+
+		@BeforeAll
+		static void disable() {
+			System.setProperty(MUTABLE, "false");
+		}
+
+	}
+
+	static class DeterministicCountingCondition implements ExecutionCondition {
+
+		static final AtomicInteger evaluations = new AtomicInteger();
+
+		@Override
+		public ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context) {
+			evaluations.incrementAndGet();
+			return ConditionEvaluationResult.enabled("always");
+		}
+
+		@Override
+		public boolean isDeterministicPerElement() {
+			return true;
+		}
+	}
+
+	static class NonDeterministicCountingCondition implements ExecutionCondition {
+
+		static final AtomicInteger evaluations = new AtomicInteger();
+
+		@Override
+		public ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context) {
+			evaluations.incrementAndGet();
+			return ConditionEvaluationResult.enabled("always");
+		}
+	}
+
 	@Target({ ElementType.METHOD, ElementType.TYPE })
 	@Retention(RetentionPolicy.RUNTIME)
 	@ExtendWith({ AlwaysDisabledCondition.class, AnotherAlwaysDisabledCondition.class })
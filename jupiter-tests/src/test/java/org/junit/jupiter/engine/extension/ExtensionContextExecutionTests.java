@@ -10,18 +10,30 @@
 
 package org.junit.jupiter.engine.extension;
 
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.engine.Constants.DEFAULT_CLASSES_EXECUTION_MODE_PROPERTY_NAME;
+import static org.junit.jupiter.engine.Constants.PARALLEL_CONFIG_FIXED_PARALLELISM_PROPERTY_NAME;
+import static org.junit.jupiter.engine.Constants.PARALLEL_CONFIG_STRATEGY_PROPERTY_NAME;
+import static org.junit.jupiter.engine.Constants.PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.BeforeAllCallback;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Store.CloseableResource;
 import org.junit.jupiter.api.extension.ExtensionContextParameterResolver;
+import org.junit.jupiter.api.extension.RegisterExtension;
 import org.junit.jupiter.engine.AbstractJupiterTestEngineTests;
 
 class ExtensionContextExecutionTests extends AbstractJupiterTestEngineTests {
@@ -53,6 +65,75 @@ class ExtensionContextExecutionTests extends AbstractJupiterTestEngineTests {
 		assertThat(Parent.counter).hasValue(1);
 	}
 
+	@Test
+	void sharedFixtureIsClosedAfterLastDeclaringClassHasFinished() {
+		SharedFixtureExtension.events.clear();
+
+		executeTests(selectClass(FirstFixtureUser.class), selectClass(FixtureIndependentClass.class),
+			selectClass(SecondFixtureUser.class)).testEvents()//
+					.assertStatistics(stats -> stats.started(3).succeeded(3));
+
+		assertThat(SharedFixtureExtension.events) //
+				.containsExactly("create", "FirstFixtureUser", "FixtureIndependentClass", "SecondFixtureUser", "close");
+	}
+
+	@Test
+	void sharedFixtureIsNotKeptAliveForClassesThatDoNotDeclareIt() {
+		SharedFixtureExtension.events.clear();
+
+		executeTests(selectClass(FirstFixtureUser.class), selectClass(FixtureIndependentClass.class)).testEvents()//
+				.assertStatistics(stats -> stats.started(2).succeeded(2));
+
+		assertThat(SharedFixtureExtension.events) //
+				.containsExactly("create", "FirstFixtureUser", "close", "FixtureIndependentClass");
+	}
+
+	@Test
+	void sharedFixtureIsSharedByClassesRunningConcurrently() {
+		SharedFixtureExtension.events.clear();
+
+		// @formatter:off
+		var request = request()
+				.selectors(selectClass(FirstConcurrentFixtureUser.class), selectClass(SecondConcurrentFixtureUser.class))
+				.configurationParameter(PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME, "true")
+				.configurationParameter(DEFAULT_CLASSES_EXECUTION_MODE_PROPERTY_NAME, "concurrent")
+				.configurationParameter(PARALLEL_CONFIG_STRATEGY_PROPERTY_NAME, "fixed")
+				.configurationParameter(PARALLEL_CONFIG_FIXED_PARALLELISM_PROPERTY_NAME, "2")
+				.build();
+		// @formatter:on
+
+		executeTests(request).testEvents().assertStatistics(stats -> stats.started(2).succeeded(2));
+
+		assertThat(SharedFixtureExtension.events).hasSize(4).startsWith("create").endsWith("close") //
+				.contains("FirstConcurrentFixtureUser", "SecondConcurrentFixtureUser");
+	}
+
+	@Test
+	void sharedFixtureRequestedByClassThatDoesNotDeclareItIsKeptForDeclaringClasses() {
+		SharedFixtureExtension.events.clear();
+
+		executeTests(selectClass(UndeclaredFixtureUser.class), selectClass(FixtureIndependentClass.class),
+			selectClass(FirstFixtureUser.class)).testEvents()//
+					.assertStatistics(stats -> stats.started(3).succeeded(3));
+
+		assertThat(SharedFixtureExtension.events) //
+				.containsExactly("create", "UndeclaredFixtureUser", "FixtureIndependentClass", "FirstFixtureUser",
+					"close");
+	}
+
+	@Test
+	void sharedFixtureRequestedByClassThatDoesNotDeclareItIsClosedAfterThatClassHasFinished() {
+		SharedFixtureExtension.events.clear();
+
+		executeTests(selectClass(FirstFixtureUser.class), selectClass(UndeclaredFixtureUser.class),
+			selectClass(FixtureIndependentClass.class)).testEvents()//
+					.assertStatistics(stats -> stats.started(3).succeeded(3));
+
+		assertThat(SharedFixtureExtension.events) //
+				.containsExactly("create", "FirstFixtureUser", "close", "create", "UndeclaredFixtureUser", "close",
+					"FixtureIndependentClass");
+	}
+
 	@SuppressWarnings("JUnitMalformedDeclaration")
 	@ExtendWith(OnlyIncrementCounterOnce.class)
 	static class Parent {
@@ -69,6 +150,78 @@ class ExtensionContextExecutionTests extends AbstractJupiterTestEngineTests {
 	static class B extends Parent {
 	}
 
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	@ExtendWith(SharedFixtureExtension.class)
+	static class FirstFixtureUser {
+		@Test
+		void test() {
+		}
+	}
+
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	static class FixtureIndependentClass {
+		@Test
+		void test() {
+			SharedFixtureExtension.events.add(getClass().getSimpleName());
+		}
+	}
+
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	@ExtendWith(SharedFixtureExtension.class)
+	static class SecondFixtureUser {
+		@Test
+		void test() {
+		}
+	}
+
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	static class UndeclaredFixtureUser {
+
+		@RegisterExtension
+		static SharedFixtureExtension extension = new SharedFixtureExtension();
+
+		@Test
+		void test() {
+		}
+	}
+
+	static final CountDownLatch concurrentFixtureUsers = new CountDownLatch(2);
+
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	@ExtendWith(SharedFixtureExtension.class)
+	static class FirstConcurrentFixtureUser {
+		@Test
+		void test() throws Exception {
+			concurrentFixtureUsers.countDown();
+			assertThat(concurrentFixtureUsers.await(5, SECONDS)).isTrue();
+		}
+	}
+
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	@ExtendWith(SharedFixtureExtension.class)
+	static class SecondConcurrentFixtureUser {
+		@Test
+		void test() throws Exception {
+			concurrentFixtureUsers.countDown();
+			assertThat(concurrentFixtureUsers.await(5, SECONDS)).isTrue();
+		}
+	}
+
+	static class SharedFixtureExtension implements BeforeAllCallback {
+
+		static final List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+		@Override
+		public void beforeAll(ExtensionContext context) {
+			var fixture = context.getOrComputeSharedFixture(SharedFixtureExtension.class, "fixture", key -> {
+				events.add("create");
+				return (CloseableResource) () -> events.add("close");
+			}, CloseableResource.class);
+			assertThat(fixture).isNotNull();
+			events.add(context.getRequiredTestClass().getSimpleName());
+		}
+	}
+
 	static class OnlyIncrementCounterOnce implements BeforeAllCallback {
 		@Override
 		public void beforeAll(ExtensionContext context) {
@@ -12,13 +12,18 @@ package org.junit.jupiter.engine.extension;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Timeout.TIMEOUT_MODE_PROPERTY_NAME;
 import static org.junit.jupiter.engine.extension.MutableExtensionRegistry.createRegistryFrom;
 import static org.junit.jupiter.engine.extension.MutableExtensionRegistry.createRegistryWithDefaultExtensions;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -138,6 +143,36 @@ class ExtensionRegistryTests {
 		assertEquals(2, countExtensions(registry, BeforeAllCallback.class));
 	}
 
+	@Test
+	void unmodifiableExtensionsAreSharedWithoutCopying() {
+		List<InvocationInterceptor> interceptors = registry.getUnmodifiableExtensions(InvocationInterceptor.class);
+
+		assertSame(interceptors, registry.getUnmodifiableExtensions(InvocationInterceptor.class));
+		assertEquals(registry.getExtensions(InvocationInterceptor.class), interceptors);
+		assertNotSame(registry.getExtensions(InvocationInterceptor.class),
+			registry.getExtensions(InvocationInterceptor.class));
+		assertThrows(UnsupportedOperationException.class, interceptors::clear);
+	}
+
+	@Test
+	void timeoutExtensionIsNotRegisteredIfTimeoutsAreDisabled() {
+		when(configuration.getRawConfigurationParameter(TIMEOUT_MODE_PROPERTY_NAME)).thenReturn(Optional.of("disabled"));
+		registry = createRegistryWithDefaultExtensions(configuration);
+
+		assertEquals(NUM_CORE_EXTENSIONS - 1, registry.getExtensions(Extension.class).size());
+		assertExtensionNotRegistered(registry, InvocationInterceptor.class);
+		assertExtensionNotRegistered(registry, TimeoutExtension.class);
+	}
+
+	@Test
+	void timeoutExtensionIsRegisteredIfTimeoutModeIsUnsupported() {
+		when(configuration.getRawConfigurationParameter(TIMEOUT_MODE_PROPERTY_NAME)).thenReturn(Optional.of("bogus"));
+		registry = createRegistryWithDefaultExtensions(configuration);
+
+		assertEquals(NUM_CORE_EXTENSIONS, registry.getExtensions(Extension.class).size());
+		assertDefaultGlobalExtensionsAreRegistered();
+	}
+
 	@Test
 	void registerExtensionByImplementingClass() {
 		registry.registerExtension(MyExtension.class);
@@ -214,6 +249,19 @@ class ExtensionRegistryTests {
 		assertTrue(hasRun.get());
 	}
 
+	@Test
+	void extensionsRegisteredAfterLookupAreReturnedBySubsequentLookups() {
+		registry.registerExtension(MyExtension.class);
+		assertEquals(1, countExtensions(registry, MyExtensionApi.class));
+		assertEquals(0, countExtensions(registry, AnotherExtensionApi.class));
+
+		registry.registerExtension(MultipleExtension.class);
+
+		assertEquals(2, countExtensions(registry, MyExtensionApi.class));
+		assertEquals(1, countExtensions(registry, AnotherExtensionApi.class));
+		assertEquals(2, registry.getExtensions(MyExtensionApi.class).size());
+	}
+
 	private long countExtensions(ExtensionRegistry registry, Class<? extends Extension> extensionType) {
 		return registry.stream(extensionType).count();
 	}
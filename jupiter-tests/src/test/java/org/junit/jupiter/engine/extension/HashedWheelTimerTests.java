@@ -0,0 +1,162 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.extension;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.engine.extension.HashedWheelTimer.ScheduledTimeout;
+import org.junit.platform.commons.JUnitException;
+
+/**
+ * @since 5.12
+ */
+class HashedWheelTimerTests {
+
+	private final HashedWheelTimer timer = new HashedWheelTimer(MILLISECONDS.toNanos(1), 8);
+
+	@AfterEach
+	void closeTimer() throws Throwable {
+		timer.close();
+	}
+
+	@Test
+	void executesTaskAfterDelay() throws Exception {
+		var latch = new CountDownLatch(1);
+		var start = System.nanoTime();
+
+		timer.schedule(latch::countDown, 20, MILLISECONDS);
+
+		assertThat(latch.await(5, SECONDS)).isTrue();
+		assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(MILLISECONDS.toNanos(20));
+	}
+
+	@Test
+	void executesTasksOnThreadWithMaximumPriority() throws Exception {
+		var priority = new AtomicInteger();
+		var latch = new CountDownLatch(1);
+
+		timer.schedule(() -> {
+			priority.set(Thread.currentThread().getPriority());
+			latch.countDown();
+		}, 1, NANOSECONDS);
+
+		assertThat(latch.await(5, SECONDS)).isTrue();
+		assertThat(priority).hasValue(Thread.MAX_PRIORITY);
+	}
+
+	@Test
+	void executesTasksWithDelaysExceedingOneRotationOfTheWheel() throws Exception {
+		var latch = new CountDownLatch(3);
+
+		timer.schedule(latch::countDown, 1, NANOSECONDS);
+		timer.schedule(latch::countDown, 9, MILLISECONDS);
+		timer.schedule(latch::countDown, 30, MILLISECONDS);
+
+		assertThat(latch.await(5, SECONDS)).isTrue();
+	}
+
+	@Test
+	void doesNotExecuteCancelledTask() throws Exception {
+		var executed = new AtomicBoolean();
+		var latch = new CountDownLatch(1);
+
+		ScheduledTimeout timeout = timer.schedule(() -> executed.set(true), 10, MILLISECONDS);
+		timer.schedule(latch::countDown, 20, MILLISECONDS);
+
+		assertThat(timeout.cancel()).isTrue();
+		assertThat(latch.await(5, SECONDS)).isTrue();
+		assertThat(executed).isFalse();
+	}
+
+	@Test
+	void cancellingExpiredTimeoutWaitsForTaskToComplete() throws Exception {
+		var started = new CountDownLatch(1);
+		var completed = new AtomicBoolean();
+
+		ScheduledTimeout timeout = timer.schedule(() -> {
+			started.countDown();
+			sleep(50);
+			completed.set(true);
+		}, 1, MILLISECONDS);
+
+		assertThat(started.await(5, SECONDS)).isTrue();
+		assertThat(timeout.cancel()).isFalse();
+		assertThat(completed).isTrue();
+	}
+
+	@Test
+	void executesManyTasksScheduledConcurrently() throws Exception {
+		var executions = new AtomicInteger();
+		var latch = new CountDownLatch(1_000);
+		List<ScheduledTimeout> cancelledTimeouts = new ArrayList<>();
+
+		for (int i = 0; i < 1_000; i++) {
+			timer.schedule(() -> {
+				executions.incrementAndGet();
+				latch.countDown();
+			}, i % 20, MILLISECONDS);
+			cancelledTimeouts.add(timer.schedule(executions::incrementAndGet, 1, SECONDS));
+		}
+		cancelledTimeouts.forEach(ScheduledTimeout::cancel);
+
+		assertThat(latch.await(5, SECONDS)).isTrue();
+		assertThat(executions).hasValue(1_000);
+	}
+
+	@Test
+	void skipsTicksUntilEarliestDeadline() throws Exception {
+		var latch = new CountDownLatch(1);
+
+		timer.schedule(() -> {
+		}, 1, SECONDS);
+		timer.schedule(latch::countDown, 20, MILLISECONDS);
+
+		assertThat(latch.await(5, SECONDS)).isTrue();
+		var processedTick = timer.getProcessedTick();
+		assertThat(processedTick).isPositive();
+
+		sleep(50);
+
+		assertThat(timer.getProcessedTick()).isEqualTo(processedTick);
+	}
+
+	@Test
+	void rejectsTasksAfterBeingClosed() throws Throwable {
+		timer.close();
+
+		assertThatThrownBy(() -> timer.schedule(() -> {
+		}, 1, MILLISECONDS)) //
+				.isInstanceOf(JUnitException.class) //
+				.hasMessage("Timer has already been closed");
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
@@ -11,14 +11,10 @@
 package org.junit.jupiter.engine.extension;
 
 import static java.util.concurrent.TimeUnit.NANOSECONDS;
-import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeoutException;
 
 import org.junit.jupiter.api.Test;
@@ -31,10 +27,10 @@ class SameThreadTimeoutInvocationTests {
 
 	@Test
 	void resetsInterruptFlag() {
-		var exception = assertThrows(TimeoutException.class, () -> withExecutor(executor -> {
+		var exception = assertThrows(TimeoutException.class, () -> withTimer(timer -> {
 			var delegate = new EventuallyInterruptibleInvocation();
 			var duration = new TimeoutDuration(1, NANOSECONDS);
-			var timeoutInvocation = new SameThreadTimeoutInvocation<>(delegate, duration, executor, () -> "execution",
+			var timeoutInvocation = new SameThreadTimeoutInvocation<>(delegate, duration, timer, () -> "execution",
 				PreInterruptCallbackInvocation.NOOP);
 			timeoutInvocation.proceed();
 		}));
@@ -42,14 +38,13 @@ class SameThreadTimeoutInvocationTests {
 		assertThat(exception).hasMessage("execution timed out after 1 nanosecond");
 	}
 
-	private void withExecutor(ThrowingConsumer<ScheduledExecutorService> consumer) throws Throwable {
-		ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+	private void withTimer(ThrowingConsumer<HashedWheelTimer> consumer) throws Throwable {
+		HashedWheelTimer timer = new HashedWheelTimer();
 		try {
-			consumer.accept(executor);
+			consumer.accept(timer);
 		}
 		finally {
-			executor.shutdown();
-			assertTrue(executor.awaitTermination(5, SECONDS));
+			timer.close();
 		}
 	}
 }
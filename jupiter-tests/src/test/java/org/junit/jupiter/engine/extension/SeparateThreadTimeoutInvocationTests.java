@@ -69,13 +69,39 @@ class SeparateThreadTimeoutInvocationTests {
 				.hasMessage("hi!");
 	}
 
+	@Test
+	@DisplayName("does not reuse pooled thread of timed out invocation")
+	void doesNotReusePooledThreadOfTimedOutInvocation() throws Throwable {
+		var store = aStore();
+		AtomicReference<String> threadName = new AtomicReference<>();
+		var invocation = aSeparateThreadInvocation(store, TimeoutThreadPool.Mode.PLATFORM, () -> {
+			threadName.set(Thread.currentThread().getName());
+			Thread.sleep(PREEMPTIVE_TIMEOUT_MILLIS * 2);
+			return null;
+		});
+		assertThatThrownBy(invocation::proceed).isInstanceOf(TimeoutException.class);
+
+		var secondThreadName = aSeparateThreadInvocation(store, TimeoutThreadPool.Mode.PLATFORM,
+			() -> Thread.currentThread().getName()).proceed();
+
+		assertThat(secondThreadName).isNotEqualTo(threadName.get());
+	}
+
 	private static <T> SeparateThreadTimeoutInvocation<T> aSeparateThreadInvocation(Invocation<T> invocation) {
+		return aSeparateThreadInvocation(aStore(), TimeoutThreadPool.Mode.DISABLED, invocation);
+	}
+
+	private static NamespaceAwareStore aStore() {
 		var namespace = ExtensionContext.Namespace.create(SeparateThreadTimeoutInvocationTests.class);
-		var store = new NamespaceAwareStore(new NamespacedHierarchicalStore<>(null), namespace);
+		return new NamespaceAwareStore(new NamespacedHierarchicalStore<>(null), namespace);
+	}
+
+	private static <T> SeparateThreadTimeoutInvocation<T> aSeparateThreadInvocation(NamespaceAwareStore store,
+			TimeoutThreadPool.Mode threadPoolMode, Invocation<T> invocation) {
 		var parameters = new TimeoutInvocationParameters<>(invocation,
 			new TimeoutDuration(PREEMPTIVE_TIMEOUT_MILLIS, MILLISECONDS), () -> "method()",
 			PreInterruptCallbackInvocation.NOOP);
-		return (SeparateThreadTimeoutInvocation<T>) new TimeoutInvocationFactory(store) //
+		return (SeparateThreadTimeoutInvocation<T>) new TimeoutInvocationFactory(store, threadPoolMode) //
 				.create(ThreadMode.SEPARATE_THREAD, parameters);
 	}
 }
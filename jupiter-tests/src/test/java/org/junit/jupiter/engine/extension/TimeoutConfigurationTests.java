@@ -30,6 +30,7 @@ import static org.junit.jupiter.engine.Constants.DEFAULT_TEST_METHOD_TIMEOUT_PRO
 import static org.junit.jupiter.engine.Constants.DEFAULT_TEST_TEMPLATE_METHOD_TIMEOUT_PROPERTY_NAME;
 import static org.junit.jupiter.engine.Constants.DEFAULT_TIMEOUT_PROPERTY_NAME;
 import static org.junit.jupiter.engine.Constants.DEFAULT_TIMEOUT_THREAD_MODE_PROPERTY_NAME;
+import static org.junit.jupiter.engine.Constants.TIMEOUT_THREAD_POOL_MODE_PROPERTY_NAME;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -60,6 +61,7 @@ class TimeoutConfigurationTests {
 		assertThat(config.getDefaultAfterEachMethodTimeout()).isEmpty();
 		assertThat(config.getDefaultAfterAllMethodTimeout()).isEmpty();
 		assertThat(config.getDefaultTimeoutThreadMode()).isEmpty();
+		assertThat(config.getTimeoutThreadPoolMode()).isEqualTo(TimeoutThreadPool.Mode.DISABLED);
 	}
 
 	@Test
@@ -151,4 +153,22 @@ class TimeoutConfigurationTests {
 				.containsExactly(
 					"Invalid timeout thread mode 'invalid' set via the 'junit.jupiter.execution.timeout.thread.mode.default' configuration parameter.");
 	}
+
+	@Test
+	void specificThreadPoolModeIsUsed() {
+		when(extensionContext.getConfigurationParameter(TIMEOUT_THREAD_POOL_MODE_PROPERTY_NAME)).thenReturn(
+			Optional.of("platform"));
+		assertThat(config.getTimeoutThreadPoolMode()).isEqualTo(TimeoutThreadPool.Mode.PLATFORM);
+	}
+
+	@Test
+	void logsInvalidThreadPoolModeValueAndReturnsDisabled(@TrackLogRecords LogRecordListener logRecordListener) {
+		when(extensionContext.getConfigurationParameter(TIMEOUT_THREAD_POOL_MODE_PROPERTY_NAME)).thenReturn(
+			Optional.of("invalid"));
+
+		assertThat(config.getTimeoutThreadPoolMode()).isEqualTo(TimeoutThreadPool.Mode.DISABLED);
+		assertThat(logRecordListener.stream(Level.WARNING).map(LogRecord::getMessage)) //
+				.containsExactly(
+					"Invalid timeout thread pool mode 'invalid' set via the 'junit.jupiter.execution.timeout.thread.pool.mode' configuration parameter.");
+	}
 }
@@ -51,6 +51,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestFactory;
 import org.junit.jupiter.api.TestMethodOrder;
 import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.ExtensionConfigurationException;
 import org.junit.jupiter.engine.AbstractJupiterTestEngineTests;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -100,6 +101,19 @@ class TimeoutExtensionTests extends AbstractJupiterTestEngineTests {
 				.isEmpty();
 	}
 
+	@Test
+	@DisplayName("reports unsupported timeout mode when applied on annotated @Test methods")
+	void reportsUnsupportedTimeoutModeOnAnnotatedTestMethods() {
+		EngineExecutionResults results = executeTests(request() //
+				.selectors(selectMethod(TimeoutAnnotatedTestMethodTestCase.class, "testMethod")) //
+				.configurationParameter(TIMEOUT_MODE_PROPERTY_NAME, "bogus").build());
+
+		Execution execution = findExecution(results.testEvents(), "testMethod()");
+		assertThat(execution.getTerminationInfo().getExecutionResult().getThrowable().orElseThrow()) //
+				.isInstanceOf(ExtensionConfigurationException.class) //
+				.hasMessage("Unsupported timeout mode: bogus");
+	}
+
 	@Test
 	@DisplayName("is not applied on annotated @Test methods using timeout mode: disabled")
 	void applyTimeoutOnAnnotatedTestMethodsUsingDisabledOnDebugTimeoutMode() {
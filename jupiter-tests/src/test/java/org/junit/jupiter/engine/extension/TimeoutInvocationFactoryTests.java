@@ -12,6 +12,8 @@ package org.junit.jupiter.engine.extension;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -24,7 +26,6 @@ import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.ExtensionContext.Store;
 import org.junit.jupiter.api.extension.InvocationInterceptor.Invocation;
 import org.junit.jupiter.engine.execution.NamespaceAwareStore;
-import org.junit.jupiter.engine.extension.TimeoutInvocationFactory.SingleThreadExecutorResource;
 import org.junit.jupiter.engine.extension.TimeoutInvocationFactory.TimeoutInvocationParameters;
 import org.junit.platform.engine.support.store.NamespacedHierarchicalStore;
 import org.mockito.Mock;
@@ -58,16 +59,23 @@ class TimeoutInvocationFactoryTests {
 	void setUp() {
 		parameters = new TimeoutInvocationParameters<>(invocation, timeoutDuration, () -> "description",
 			PreInterruptCallbackInvocation.NOOP);
-		timeoutInvocationFactory = new TimeoutInvocationFactory(store);
+		timeoutInvocationFactory = new TimeoutInvocationFactory(store, TimeoutThreadPool.Mode.DISABLED);
 	}
 
 	@Test
 	@DisplayName("throws exception when null store is provided on create")
 	void shouldThrowExceptionWhenInstantiatingWithNullStore() {
-		assertThatThrownBy(() -> new TimeoutInvocationFactory(null)) //
+		assertThatThrownBy(() -> new TimeoutInvocationFactory(null, TimeoutThreadPool.Mode.DISABLED)) //
 				.hasMessage("store must not be null");
 	}
 
+	@Test
+	@DisplayName("throws exception when null thread pool mode is provided on create")
+	void shouldThrowExceptionWhenInstantiatingWithNullThreadPoolMode() {
+		assertThatThrownBy(() -> new TimeoutInvocationFactory(store, null)) //
+				.hasMessage("thread pool mode must not be null");
+	}
+
 	@Test
 	@DisplayName("throws exception when null timeout thread mode is provided on create")
 	void shouldThrowExceptionWhenNullTimeoutThreadModeIsProvidedWhenCreate() {
@@ -87,7 +95,7 @@ class TimeoutInvocationFactoryTests {
 	void shouldCreateTimeoutInvocationForSameThreadTimeoutThreadMode() {
 		var invocation = timeoutInvocationFactory.create(ThreadMode.SAME_THREAD, parameters);
 		assertThat(invocation).isInstanceOf(SameThreadTimeoutInvocation.class);
-		verify(store).getOrComputeIfAbsent(SingleThreadExecutorResource.class);
+		verify(store).getOrComputeIfAbsent(HashedWheelTimer.class);
 	}
 
 	@Test
@@ -95,6 +103,7 @@ class TimeoutInvocationFactoryTests {
 	void shouldCreateTimeoutInvocationForSeparateThreadTimeoutThreadMode() {
 		var invocation = timeoutInvocationFactory.create(ThreadMode.SEPARATE_THREAD, parameters);
 		assertThat(invocation).isInstanceOf(SeparateThreadTimeoutInvocation.class);
+		verify(store).getOrComputeIfAbsent(eq(TimeoutThreadPool.class), any(), eq(TimeoutThreadPool.class));
 	}
 
 	/**
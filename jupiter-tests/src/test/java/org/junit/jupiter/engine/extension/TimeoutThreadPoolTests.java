@@ -0,0 +1,166 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.extension;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.condition.JRE.JAVA_21;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.engine.extension.TimeoutThreadPool.Execution;
+import org.junit.jupiter.engine.extension.TimeoutThreadPool.Mode;
+import org.junit.platform.commons.JUnitException;
+
+/**
+ * @since 5.12
+ */
+class TimeoutThreadPoolTests {
+
+	private TimeoutThreadPool threadPool;
+
+	@AfterEach
+	void closeThreadPool() {
+		if (threadPool != null) {
+			threadPool.close();
+		}
+	}
+
+	@Test
+	void startsNewThreadForEachExecutionWhenPoolingIsDisabled() throws Exception {
+		threadPool = new TimeoutThreadPool(Mode.DISABLED);
+
+		var firstThread = threadPool.execute(Thread::currentThread).get();
+		var secondThread = threadPool.execute(Thread::currentThread).get();
+
+		assertThat(secondThread).isNotSameAs(firstThread).isNotSameAs(Thread.currentThread());
+	}
+
+	@Test
+	void reusesThreadOfCompletedExecution() throws Exception {
+		threadPool = new TimeoutThreadPool(Mode.PLATFORM);
+
+		var firstThread = threadPool.execute(Thread::currentThread).get();
+		awaitIdleThread();
+		var secondThread = threadPool.execute(Thread::currentThread).get();
+
+		assertThat(secondThread).isSameAs(firstThread).isNotSameAs(Thread.currentThread());
+		assertThat(secondThread.isDaemon()).isTrue();
+	}
+
+	@Test
+	void doesNotReuseThreadOfReleasedExecutionThatIsStillRunning() throws Exception {
+		threadPool = new TimeoutThreadPool(Mode.PLATFORM);
+		var started = new CountDownLatch(1);
+		var interrupted = new AtomicBoolean();
+
+		Execution<Void> execution = threadPool.execute(() -> {
+			started.countDown();
+			try {
+				Thread.sleep(SECONDS.toMillis(10));
+			}
+			catch (InterruptedException e) {
+				interrupted.set(true);
+			}
+			return null;
+		});
+		assertThat(started.await(5, SECONDS)).isTrue();
+		var abandonedThread = execution.getThread();
+		execution.release();
+		abandonedThread.join(SECONDS.toMillis(5));
+
+		assertThat(interrupted).isTrue();
+		assertThat(abandonedThread.isAlive()).isFalse();
+		assertThat(threadPool.getIdleThreadCount()).isZero();
+		assertThat(threadPool.execute(Thread::currentThread).get()).isNotSameAs(abandonedThread);
+	}
+
+	@Test
+	void resetsThreadStateBeforeReusingThread() throws Exception {
+		threadPool = new TimeoutThreadPool(Mode.PLATFORM);
+		var originalContextClassLoader = Thread.currentThread().getContextClassLoader();
+		var customContextClassLoader = new URLClassLoader(new URL[0], originalContextClassLoader);
+
+		Thread.currentThread().setContextClassLoader(customContextClassLoader);
+		try {
+			threadPool.execute(() -> {
+				assertThat(Thread.currentThread().getContextClassLoader()).isSameAs(customContextClassLoader);
+				Thread.currentThread().setName("renamed");
+				Thread.currentThread().setPriority(Thread.MIN_PRIORITY);
+				Thread.currentThread().interrupt();
+				return null;
+			}).get();
+		}
+		finally {
+			Thread.currentThread().setContextClassLoader(originalContextClassLoader);
+		}
+		awaitIdleThread();
+
+		var thread = threadPool.execute(() -> {
+			assertThat(Thread.currentThread().isInterrupted()).isFalse();
+			assertThat(Thread.currentThread().getContextClassLoader()).isSameAs(originalContextClassLoader);
+			return Thread.currentThread();
+		}).get();
+
+		assertThat(thread.getName()).startsWith("junit-timeout-thread-");
+		assertThat(thread.getPriority()).isNotEqualTo(Thread.MIN_PRIORITY);
+	}
+
+	@Test
+	void pooledThreadsDoNotInheritInheritableThreadLocals() throws Exception {
+		threadPool = new TimeoutThreadPool(Mode.PLATFORM);
+		var threadLocal = new InheritableThreadLocal<String>();
+		threadLocal.set("value");
+
+		try {
+			assertThat(threadPool.execute(threadLocal::get).get()).isNull();
+		}
+		finally {
+			threadLocal.remove();
+		}
+	}
+
+	@Test
+	@EnabledForJreRange(min = JAVA_21)
+	void startsNewVirtualThreadForEachExecution() throws Exception {
+		threadPool = new TimeoutThreadPool(Mode.VIRTUAL);
+
+		var thread = threadPool.execute(Thread::currentThread).get();
+
+		assertThat(thread.getName()).startsWith("junit-timeout-thread-");
+		assertThat(Thread.class.getMethod("isVirtual").invoke(thread)).isEqualTo(true);
+	}
+
+	@Test
+	void rejectsExecutionsAfterBeingClosed() {
+		threadPool = new TimeoutThreadPool(Mode.PLATFORM);
+		threadPool.close();
+
+		assertThatThrownBy(() -> threadPool.execute(() -> null)) //
+				.isInstanceOf(JUnitException.class) //
+				.hasMessage("Thread pool has already been closed");
+	}
+
+	private void awaitIdleThread() throws InterruptedException {
+		long deadline = System.nanoTime() + SECONDS.toNanos(5);
+		while (threadPool.getIdleThreadCount() == 0 && System.nanoTime() < deadline) {
+			Thread.sleep(1);
+		}
+	}
+
+}
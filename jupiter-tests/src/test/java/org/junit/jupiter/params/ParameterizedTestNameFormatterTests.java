@@ -33,8 +33,14 @@ import java.sql.Date;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Nested;
@@ -259,6 +265,25 @@ class ParameterizedTestNameFormatterTests {
 		assertThat(formattedName).isEqualTo("foo, baz");
 	}
 
+	@Test
+	void placeholdersCanBeRepeatedAndReordered() {
+		var formatter = formatter("{1}-{0}-{1}", "enigma");
+
+		var formattedName = format(formatter, 1, arguments("foo", "bar"));
+
+		assertThat(formattedName).isEqualTo("bar-foo-bar");
+	}
+
+	@Test
+	void formatsQuotesAndFormatTypesUsingMessageFormat() {
+		Locale.setDefault(Locale.US);
+		var formatter = formatter("{0} costs {1,number,#.00} '{2}' it''s", "enigma");
+
+		var formattedName = format(formatter, 1, arguments("foo", 42, "bar"));
+
+		assertThat(formattedName).isEqualTo("foo costs 42.00 {2} it's");
+	}
+
 	@Test
 	void truncatesArgumentsThatExceedMaxLength() {
 		var formatter = formatter("{arguments}", "display name", 3);
@@ -268,6 +293,41 @@ class ParameterizedTestNameFormatterTests {
 		assertThat(formattedName).isEqualTo("fo, foo, fo…");
 	}
 
+	@Test
+	void formatsArraysAndCollectionsLikeToString() {
+		var formatter = formatter("{0} | {1} | {2} | {3}", "display name", 512);
+		var selfReferencingArray = new Object[] { "foo", null };
+		selfReferencingArray[1] = selfReferencingArray;
+		var selfReferencingList = new ArrayList<Object>(List.of("bar"));
+		selfReferencingList.add(selfReferencingList);
+
+		var formattedName = format(formatter, 1, arguments(new int[][] { { 1, 2 }, { 3 } }, selfReferencingArray,
+			selfReferencingList, new LinkedHashMap<>(Map.of("baz", List.of(42)))));
+
+		assertThat(formattedName).isEqualTo("[[1, 2], [3]] | [foo, [...]] | [bar, (this Collection)] | {baz=[42]}");
+	}
+
+	@Test
+	void stopsFormattingArraysAndCollectionsThatExceedMaxLength() {
+		var formatter = formatter("{arguments}", "display name", 10);
+		var formattedElements = new AtomicInteger();
+		var element = new Object() {
+			@Override
+			public String toString() {
+				formattedElements.incrementAndGet();
+				return "element";
+			}
+		};
+		var array = new Object[1_000_000];
+		Arrays.fill(array, element);
+
+		var formattedName = format(formatter, 1,
+			arguments(array, Collections.nCopies(1_000_000, element), new long[1_000_000]));
+
+		assertThat(formattedName).isEqualTo("[element,…, [element,…, [0, 0, 0,…");
+		assertThat(formattedElements).hasValue(4);
+	}
+
 	@Nested
 	class ArgumentSetTests {
 
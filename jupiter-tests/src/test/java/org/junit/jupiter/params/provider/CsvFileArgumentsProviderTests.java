@@ -14,17 +14,22 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.params.provider.MockCsvAnnotationBuilder.csvFileSource;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionContext;
@@ -518,6 +523,120 @@ class CsvFileArgumentsProviderTests {
 		assertThat(arguments).containsExactly(array(" ab ", " cd"), array("ef ", "gh"));
 	}
 
+	@Test
+	void decompressesGzipCompressedInput() throws Exception {
+		var annotation = csvFileSource()//
+				.resources("test.csv.gz")//
+				.build();
+
+		var arguments = provideArguments(new ByteArrayInputStream(gzip("foo, bar \n baz, qux \n")), annotation);
+
+		assertThat(arguments).containsExactly(array("foo", "bar"), array("baz", "qux"));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "1", "2" })
+	void readsGzipCompressedFileSequentially(String parsingParallelism, @TempDir Path tempDir) throws Exception {
+		var csvFile = Files.write(tempDir.resolve("test.csv.gz"), gzip("foo, bar \n baz, qux \n"));
+		var annotation = csvFileSource()//
+				.files(csvFile.toAbsolutePath().toString())//
+				.build();
+
+		var arguments = provideArguments(new CsvFileArgumentsProvider(), annotation, parsingParallelism);
+
+		assertThat(arguments).containsExactly(array("foo", "bar"), array("baz", "qux"));
+	}
+
+	@Test
+	void readsFileInParallelChunksLikeSequentially(@TempDir Path tempDir) throws Exception {
+		var csvFile = tempDir.resolve("chunks.csv");
+		var content = new StringBuilder("FRUIT, RANK\n# \"commented\", \"out\nskipped, 0\n");
+		for (int i = 1; i <= 50; i++) {
+			content.append(i % 3 == 0 ? "\"multi\nline, \"\"" + i + "\"\"\"" : "fruit " + i).append(", ").append(i);
+			content.append("\n");
+		}
+		Files.writeString(csvFile, content);
+		var annotation = csvFileSource()//
+				.files(csvFile.toAbsolutePath().toString())//
+				.useHeadersInDisplayName(true)//
+				.numLinesToSkip(1)//
+				.build();
+
+		var sequential = provideArguments(new CsvFileArgumentsProvider(), annotation).toList();
+		var parallel = provideArguments(new CsvFileArgumentsProvider(memoryMappingProvider(), 16), annotation,
+			"4").toList();
+
+		assertThat(sequential).hasSize(50);
+		assertThat(parallel).usingRecursiveFieldByFieldElementComparator().isEqualTo(sequential);
+		assertThat(parallel.get(2)[0]).hasToString("FRUIT = multi\nline, \"3\"");
+	}
+
+	@Test
+	void doesNotParseFilesWithSelfOverlappingSeparatorsInParallel() {
+		assertThat(ParallelCsvFileReader.supports(UTF_8, csvFileSource().delimiterString("aab").build())).isFalse();
+		assertThat(ParallelCsvFileReader.supports(UTF_8, csvFileSource().delimiterString("aba").build())).isTrue();
+		assertThat(ParallelCsvFileReader.supports(UTF_8, csvFileSource().delimiterString("||").build())).isTrue();
+		assertThat(ParallelCsvFileReader.supports(UTF_8, csvFileSource().lineSeparator("\r\n").build())).isTrue();
+	}
+
+	@Test
+	void readsFileWithSelfOverlappingDelimiterSequentiallyIfParsingInParallelIsEnabled(@TempDir Path tempDir)
+			throws Exception {
+		var csvFile = Files.writeString(tempDir.resolve("overlapping.csv"), "fruit 1aab1\nfruit 2aaab2\n");
+		var annotation = csvFileSource()//
+				.files(csvFile.toAbsolutePath().toString())//
+				.delimiterString("aab")//
+				.build();
+
+		var arguments = provideArguments(new CsvFileArgumentsProvider(), annotation, "4");
+
+		assertThat(arguments).containsExactly(array("fruit 1", "1"), array("fruit 2aaab2"));
+	}
+
+	@Test
+	void throwsExceptionForExceedsMaxCharsFileWhenParsingInParallel(@TempDir Path tempDir) throws Exception {
+		var csvFile = writeClasspathResourceToFile("exceeds-default-max-chars.csv",
+			tempDir.resolve("exceeds-default-max-chars.csv"));
+		var annotation = csvFileSource()//
+				.encoding("ISO-8859-1")//
+				.files(csvFile.toAbsolutePath().toString())//
+				.build();
+
+		var exception = assertThrows(CsvParsingException.class,
+			() -> provideArguments(new CsvFileArgumentsProvider(), annotation, "2").toArray());
+
+		assertThat(exception)//
+				.hasMessageStartingWith("Failed to parse CSV input configured via Mock for CsvFileSource")//
+				.hasRootCauseInstanceOf(ArrayIndexOutOfBoundsException.class);
+	}
+
+	@Test
+	void throwsExceptionForInvalidParsingParallelism() {
+		var annotation = csvFileSource()//
+				.files("does-not-matter.csv")//
+				.build();
+
+		var exception = assertThrows(PreconditionViolationException.class,
+			() -> provideArguments(new CsvFileArgumentsProvider(), annotation, "0").toArray());
+
+		assertThat(exception).hasMessage("Invalid value for configuration parameter "
+				+ "'junit.jupiter.params.csv.file.parsing.parallelism': 0; must be greater than zero");
+	}
+
+	private static InputStreamProvider memoryMappingProvider() {
+		return new InputStreamProvider() {
+			@Override
+			public InputStream openClasspathResource(Class<?> baseClass, String path) {
+				throw new AssertionError("classpath resources are not read in parallel");
+			}
+
+			@Override
+			public InputStream openFile(String path) {
+				throw new AssertionError("files are memory-mapped");
+			}
+		};
+	}
+
 	private Stream<Object[]> provideArguments(CsvFileSource annotation, String content) {
 		return provideArguments(new ByteArrayInputStream(content.getBytes(UTF_8)), annotation);
 	}
@@ -540,10 +659,18 @@ class CsvFileArgumentsProviderTests {
 	}
 
 	private Stream<Object[]> provideArguments(CsvFileArgumentsProvider provider, CsvFileSource annotation) {
+		return provideArguments(provider, annotation, null);
+	}
+
+	private Stream<Object[]> provideArguments(CsvFileArgumentsProvider provider, CsvFileSource annotation,
+			String parsingParallelism) {
 		provider.accept(annotation);
 		var context = mock(ExtensionContext.class);
 		when(context.getTestClass()).thenReturn(Optional.of(CsvFileArgumentsProviderTests.class));
 		doCallRealMethod().when(context).getRequiredTestClass();
+		when(context.getConfigurationParameter(eq(CsvFileArgumentsProvider.PARSING_PARALLELISM_PROPERTY_NAME),
+			any())).thenAnswer(invocation -> Optional.ofNullable(parsingParallelism) //
+					.map(invocation.<Function<String, Integer>> getArgument(1)));
 		return provider.provideArguments(context).map(Arguments::get);
 	}
 
@@ -552,6 +679,14 @@ class CsvFileArgumentsProviderTests {
 		return elements;
 	}
 
+	private static byte[] gzip(String content) throws Exception {
+		var bytes = new ByteArrayOutputStream();
+		try (var out = new GZIPOutputStream(bytes)) {
+			out.write(content.getBytes(UTF_8));
+		}
+		return bytes.toByteArray();
+	}
+
 	private static Path writeClasspathResourceToFile(String name, Path target) throws Exception {
 		try (var in = CsvFileArgumentsProviderTests.class.getResourceAsStream(name)) {
 			Files.copy(in, target);
@@ -14,6 +14,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.engine.extension.MutableExtensionRegistry.createRegistryWithDefaultExtensions;
 import static org.junit.platform.commons.util.ReflectionUtils.findMethod;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -34,15 +35,18 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance.Lifecycle;
 import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
 import org.junit.jupiter.api.extension.ParameterContext;
 import org.junit.jupiter.api.extension.ParameterResolver;
 import org.junit.jupiter.engine.execution.DefaultExecutableInvoker;
+import org.junit.jupiter.engine.execution.NamespaceAwareStore;
 import org.junit.jupiter.engine.extension.MutableExtensionRegistry;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.platform.commons.JUnitException;
 import org.junit.platform.commons.PreconditionViolationException;
 import org.junit.platform.commons.test.TestClassLoader;
 import org.junit.platform.commons.util.ReflectionUtils;
+import org.junit.platform.engine.support.store.NamespacedHierarchicalStore;
 
 /**
  * @since 5.0
@@ -51,6 +55,8 @@ class MethodArgumentsProviderTests {
 
 	private MutableExtensionRegistry extensionRegistry;
 
+	private final NamespacedHierarchicalStore<Namespace> store = new NamespacedHierarchicalStore<>(null);
+
 	@Test
 	void providesArgumentsUsingStream() {
 		var arguments = provideArguments("stringStreamProvider");
@@ -58,6 +64,19 @@ class MethodArgumentsProviderTests {
 		assertThat(arguments).containsExactly(array("foo"), array("bar"));
 	}
 
+	@Test
+	void cachesResolvedFactoryMethodInRootStore() {
+		var arguments = provideArguments("stringStreamProvider");
+
+		assertThat(arguments).containsExactly(array("foo"), array("bar"));
+		assertThat(store.get(Namespace.create(MethodArgumentsProvider.class, TestCase.class), "stringStreamProvider")) //
+				.isEqualTo(findMethod(TestCase.class, "stringStreamProvider").get());
+
+		arguments = provideArguments("stringStreamProvider");
+
+		assertThat(arguments).containsExactly(array("foo"), array("bar"));
+	}
+
 	@Test
 	void providesArgumentsUsingDoubleStream() {
 		var arguments = provideArguments("doubleStreamProvider");
@@ -759,6 +778,10 @@ class MethodArgumentsProviderTests {
 		when(extensionContext.getExecutableInvoker()).thenReturn(
 			new DefaultExecutableInvoker(extensionContext, extensionRegistry));
 
+		when(extensionContext.getRoot()).thenReturn(extensionContext);
+		when(extensionContext.getStore(any())).thenAnswer(
+			invocation -> new NamespaceAwareStore(store, invocation.getArgument(0)));
+
 		doCallRealMethod().when(extensionContext).getRequiredTestMethod();
 		doCallRealMethod().when(extensionContext).getRequiredTestClass();
 
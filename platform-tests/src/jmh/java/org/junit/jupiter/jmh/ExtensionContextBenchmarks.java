@@ -0,0 +1,73 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.jmh;
+
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.launcher.EngineFilter.includeEngines;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH benchmarks for the overhead of creating extension contexts, executing
+ * 100,000 trivial tests that do not use any store-based extensions.
+ *
+ * <p>Run with {@code -prof gc} to profile allocations per test.
+ *
+ * @since 5.12
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 1, time = 5)
+@Measurement(iterations = 3, time = 5)
+public class ExtensionContextBenchmarks {
+
+	private Launcher launcher;
+
+	private LauncherDiscoveryRequest request;
+
+	@Setup
+	public void setUp() {
+		launcher = LauncherFactory.create();
+		request = request() //
+				.selectors(selectClass(TestCase.class)) //
+				.filters(includeEngines("junit-jupiter")) //
+				.build();
+	}
+
+	@Benchmark
+	public void executeTrivialTests(Blackhole blackhole) {
+		var listener = new SummaryGeneratingListener();
+		launcher.execute(request, listener);
+		blackhole.consume(listener.getSummary().getTestsSucceededCount());
+	}
+
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	static class TestCase {
+
+		@RepeatedTest(100_000)
+		void test() {
+		}
+	}
+
+}
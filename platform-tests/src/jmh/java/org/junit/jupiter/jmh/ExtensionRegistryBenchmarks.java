@@ -0,0 +1,139 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.jmh;
+
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.launcher.EngineFilter.includeEngines;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.Extension;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH benchmarks for extension lookups in the Jupiter engine's extension
+ * registries, executing a test class with 30+ registered extensions and
+ * deeply nested test classes.
+ *
+ * @since 5.12
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 1, time = 2)
+@Measurement(iterations = 3, time = 2)
+public class ExtensionRegistryBenchmarks {
+
+	private Launcher launcher;
+
+	private LauncherDiscoveryRequest request;
+
+	@Setup
+	public void setUp() {
+		launcher = LauncherFactory.create();
+		request = request() //
+				.selectors(selectClass(TestCase.class)) //
+				.filters(includeEngines("junit-jupiter")) //
+				.build();
+	}
+
+	@Benchmark
+	public void executeTestsWithManyExtensions(Blackhole blackhole) {
+		var listener = new SummaryGeneratingListener();
+		launcher.execute(request, listener);
+		blackhole.consume(listener.getSummary().getTestsSucceededCount());
+	}
+
+	static class NoOpExtension implements BeforeEachCallback, AfterEachCallback {
+
+		@Override
+		public void beforeEach(ExtensionContext context) {
+		}
+
+		@Override
+		public void afterEach(ExtensionContext context) {
+		}
+	}
+
+	@SuppressWarnings({ "unused", "JUnitMalformedDeclaration" })
+	static class TestCase {
+
+		@RegisterExtension
+		static Extension e01 = new NoOpExtension(), e02 = new NoOpExtension(), e03 = new NoOpExtension(),
+				e04 = new NoOpExtension(), e05 = new NoOpExtension(), e06 = new NoOpExtension(),
+				e07 = new NoOpExtension(), e08 = new NoOpExtension(), e09 = new NoOpExtension(),
+				e10 = new NoOpExtension();
+
+		@RepeatedTest(10)
+		void test() {
+		}
+
+		@Nested
+		class Level1 {
+
+			@RegisterExtension
+			Extension e11 = new NoOpExtension(), e12 = new NoOpExtension(), e13 = new NoOpExtension(),
+					e14 = new NoOpExtension(), e15 = new NoOpExtension(), e16 = new NoOpExtension(),
+					e17 = new NoOpExtension(), e18 = new NoOpExtension(), e19 = new NoOpExtension(),
+					e20 = new NoOpExtension();
+
+			@RepeatedTest(10)
+			void test() {
+			}
+
+			@Nested
+			class Level2 {
+
+				@RegisterExtension
+				Extension e21 = new NoOpExtension(), e22 = new NoOpExtension(), e23 = new NoOpExtension(),
+						e24 = new NoOpExtension(), e25 = new NoOpExtension(), e26 = new NoOpExtension(),
+						e27 = new NoOpExtension(), e28 = new NoOpExtension(), e29 = new NoOpExtension(),
+						e30 = new NoOpExtension();
+
+				@RepeatedTest(10)
+				void test() {
+				}
+
+				@Nested
+				class Level3 {
+
+					@RepeatedTest(10)
+					void test() {
+					}
+
+					@Nested
+					class Level4 {
+
+						@RepeatedTest(10)
+						void test() {
+						}
+					}
+				}
+			}
+		}
+	}
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.jmh;
+
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.launcher.EngineFilter.includeEngines;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Timeout;
+import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH benchmarks for applying a default {@link Timeout @Timeout} to the
+ * invocations of tiny test methods in the Jupiter engine.
+ *
+ * @since 5.12
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 1, time = 2)
+@Measurement(iterations = 3, time = 2)
+public class TimeoutBenchmarks {
+
+	@Param({ "same_thread", "separate_thread" })
+	private String threadMode;
+
+	@Param({ "disabled", "platform", "virtual" })
+	private String threadPoolMode;
+
+	private Launcher launcher;
+
+	private LauncherDiscoveryRequest request;
+
+	@Setup
+	public void setUp() {
+		launcher = LauncherFactory.create();
+		request = request() //
+				.selectors(selectClass(TestCase.class)) //
+				.filters(includeEngines("junit-jupiter")) //
+				.configurationParameter(Timeout.DEFAULT_TIMEOUT_PROPERTY_NAME, "5 s") //
+				.configurationParameter(Timeout.DEFAULT_TIMEOUT_THREAD_MODE_PROPERTY_NAME, threadMode) //
+				.configurationParameter(Timeout.TIMEOUT_THREAD_POOL_MODE_PROPERTY_NAME, threadPoolMode) //
+				.build();
+	}
+
+	@Benchmark
+	public void executeTinyTestsWithTimeout(Blackhole blackhole) {
+		var listener = new SummaryGeneratingListener();
+		launcher.execute(request, listener);
+		blackhole.consume(listener.getSummary().getTestsSucceededCount());
+	}
+
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	static class TestCase {
+
+		@RepeatedTest(100_000)
+		void test() {
+		}
+	}
+
+}
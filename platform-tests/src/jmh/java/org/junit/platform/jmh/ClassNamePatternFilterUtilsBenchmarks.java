@@ -0,0 +1,70 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.jmh;
+
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import org.junit.platform.commons.util.ClassNamePatternFilterUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH benchmarks for {@link ClassNamePatternFilterUtils}.
+ *
+ * @since 1.12
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 1, time = 2)
+@Measurement(iterations = 3, time = 2)
+public class ClassNamePatternFilterUtilsBenchmarks {
+
+	@Param({ "org.example.module7.Class42", //
+			"org.example.*", //
+			"*Tests", //
+			"org.example.*.internal.*", //
+			"org.example.module7.*, *Tests, *.internal.*", //
+			"org.example.module[0-3].*" })
+	private String patterns;
+
+	@Param({ "100000" })
+	private int numberOfClassNames;
+
+	private List<String> classNames;
+
+	private Predicate<String> predicate;
+
+	@Setup
+	public void setUp() {
+		classNames = IntStream.range(0, numberOfClassNames) //
+				.mapToObj(i -> String.format("org.example.module%d.%sClass%d%s", i % 10,
+					i % 3 == 0 ? "internal." : "", i, i % 5 == 0 ? "Tests" : "")) //
+				.toList();
+		predicate = ClassNamePatternFilterUtils.includeMatchingClassNames(patterns);
+	}
+
+	@Benchmark
+	public void matchClassNames(Blackhole blackhole) {
+		for (String className : classNames) {
+			blackhole.consume(predicate.test(className));
+		}
+	}
+
+}
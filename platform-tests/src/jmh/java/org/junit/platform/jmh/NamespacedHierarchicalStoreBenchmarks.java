@@ -0,0 +1,108 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.jmh;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.platform.engine.support.store.NamespacedHierarchicalStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH benchmarks for contended lookups in a {@link NamespacedHierarchicalStore}
+ * shared by many threads, resolving values stored in a grandparent store the
+ * way test-level extension contexts resolve values stored at class level.
+ *
+ * @since 1.12
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 1, time = 2)
+@Measurement(iterations = 3, time = 2)
+public class NamespacedHierarchicalStoreBenchmarks {
+
+	private static final int NUMBER_OF_KEYS = 16;
+
+	private NamespacedHierarchicalStore<List<Object>> store;
+
+	private List<Object> namespace;
+
+	private String[] keys;
+
+	@Setup
+	public void setUp() {
+		var grandParentStore = new NamespacedHierarchicalStore<List<Object>>(null);
+		store = grandParentStore.newChild().newChild();
+		namespace = List.of(NamespacedHierarchicalStoreBenchmarks.class, "namespace");
+		keys = IntStream.range(0, NUMBER_OF_KEYS).mapToObj(i -> "key" + i).toArray(String[]::new);
+		for (String key : keys) {
+			grandParentStore.getOrComputeIfAbsent(List.of(NamespacedHierarchicalStoreBenchmarks.class, "namespace"),
+				key, k -> k + "-value");
+		}
+	}
+
+	@Benchmark
+	@Threads(1)
+	public void get_1(Blackhole blackhole) {
+		get(blackhole);
+	}
+
+	@Benchmark
+	@Threads(8)
+	public void get_8(Blackhole blackhole) {
+		get(blackhole);
+	}
+
+	@Benchmark
+	@Threads(64)
+	public void get_64(Blackhole blackhole) {
+		get(blackhole);
+	}
+
+	@Benchmark
+	@Threads(1)
+	public void getOrComputeIfAbsent_1(Blackhole blackhole) {
+		getOrComputeIfAbsent(blackhole);
+	}
+
+	@Benchmark
+	@Threads(8)
+	public void getOrComputeIfAbsent_8(Blackhole blackhole) {
+		getOrComputeIfAbsent(blackhole);
+	}
+
+	@Benchmark
+	@Threads(64)
+	public void getOrComputeIfAbsent_64(Blackhole blackhole) {
+		getOrComputeIfAbsent(blackhole);
+	}
+
+	private void get(Blackhole blackhole) {
+		for (String key : keys) {
+			blackhole.consume(store.get(namespace, key));
+		}
+	}
+
+	private void getOrComputeIfAbsent(Blackhole blackhole) {
+		for (String key : keys) {
+			blackhole.consume(store.getOrComputeIfAbsent(namespace, key, k -> k + "-value"));
+		}
+	}
+
+}
@@ -366,6 +366,24 @@ class DefaultClasspathScannerTests {
 		}
 	}
 
+	@Test
+	void findAllClassesInPackageWithinMultipleJarFiles() throws Exception {
+		var jarFile = getClass().getResource("/jartest.jar");
+		var shadowedJarFile = getClass().getResource("/jartest-shadowed.jar");
+
+		try (var classLoader = new URLClassLoader(new URL[] { shadowedJarFile, jarFile }, null)) {
+			var classpathScanner = new DefaultClasspathScanner(() -> classLoader, ReflectionUtils::tryToLoadClass);
+
+			var classes = classpathScanner.scanForClassesInPackage("org.junit.platform.jartest.included", allClasses);
+
+			assertThat(classes).extracting(Class::getName) //
+					.containsExactlyInAnyOrder("org.junit.platform.jartest.included.Included",
+						"org.junit.platform.jartest.included.recursive.RecursivelyIncluded");
+			assertThrows(FileSystemNotFoundException.class,
+				() -> FileSystems.getFileSystem(URI.create("jar:" + jarFile)), "FileSystem should not be created");
+		}
+	}
+
 	@Test
 	void findAllResourcesInPackageWithinJarFileConcurrently() throws Exception {
 		var jarFile = getClass().getResource("/jartest.jar");
@@ -320,4 +320,38 @@ class ClassNamePatternFilterUtilsTests {
 				.hasSize(2);
 	}
 
+	//@formatter:off
+	@ValueSource(strings = {
+			"org.example.Outer.Inner",
+			"org.example.Outer$Inner",
+			"org.example.*.Inner",
+			"*Outer.Inner",
+			"org.example.Outer*",
+			"org.*.Out*.In*",
+			"org.example.Outer.Inn[e]r",
+			"org.example.NonExistentClass, org.example.Ou(ter|ser).Inner"
+	})
+	//@formatter:on
+	@ParameterizedTest
+	void includedNestedClassNames(String pattern) {
+		assertThat(ClassNamePatternFilterUtils.includeMatchingClassNames(pattern)) //
+				.accepts("org.example.Outer$Inner");
+	}
+
+	//@formatter:off
+	@ValueSource(strings = {
+			"org.example.Outer",
+			"org.example.Outer.Inner.*",
+			"*.Inner.*",
+			"Outer$Inner",
+			"org.example.Outer.Inn[a]r",
+			"org.example.NonExistentClass, org.example.O(ther|user).Inner"
+	})
+	//@formatter:on
+	@ParameterizedTest
+	void notIncludedNestedClassNames(String pattern) {
+		assertThat(ClassNamePatternFilterUtils.includeMatchingClassNames(pattern)) //
+				.rejects("org.example.Outer$Inner");
+	}
+
 }
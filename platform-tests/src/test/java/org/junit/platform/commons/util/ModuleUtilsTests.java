@@ -10,9 +10,22 @@
 
 package org.junit.platform.commons.util;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.lang.module.ModuleFinder;
+import java.lang.module.ModuleReference;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.spi.ToolProvider;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.commons.support.scanning.ClassFilter;
 
 /**
  * Unit tests for {@link ModuleUtils}.
@@ -34,4 +47,82 @@ class ModuleUtilsTests {
 		assertEquals(expected, ModuleUtils.isJavaPlatformModuleSystemAvailable());
 	}
 
+	@Test
+	void listsContentsOfPackagedModuleOncePerLayer(@TempDir Path temp) throws Exception {
+		var jar = createPackagedModule(temp);
+		var layer = defineLayer(jar);
+		var reference = moduleReference(layer);
+
+		var contents = listContents(layer, reference);
+
+		assertThat(contents).contains("foo/Foo.class", "META-INF/versions/11/foo/Foo.class");
+		assertThat(listContents(layer, reference)).isSameAs(contents);
+
+		var otherLayer = defineLayer(jar);
+		var otherContents = listContents(otherLayer, moduleReference(otherLayer));
+
+		assertThat(otherContents).isNotSameAs(contents).isEqualTo(contents);
+
+		System.gc(); // required on Windows in order to release JAR file handles
+	}
+
+	@Test
+	void scansOnlyClassesInPackagesOfPackagedModule(@TempDir Path temp) throws Exception {
+		var jar = createPackagedModule(temp);
+		var layer = defineLayer(jar);
+		var scanner = Class.forName(ModuleUtils.class.getName() + "$ModuleReferenceClassScanner") //
+				.getDeclaredConstructor(ClassFilter.class, ClassLoader.class, ModuleLayer.class);
+		scanner.setAccessible(true);
+		var scan = scanner.getDeclaringClass().getDeclaredMethod("scan", ModuleReference.class);
+		scan.setAccessible(true);
+
+		var classes = (List<?>) scan.invoke(
+			scanner.newInstance(ClassFilter.of(__ -> true), layer.findLoader("foo"), layer), moduleReference(layer));
+
+		assertThat(classes).extracting(type -> ((Class<?>) type).getName()).containsExactly("foo.Foo");
+
+		System.gc(); // required on Windows in order to release JAR file handles
+	}
+
+	/**
+	 * Create a modular JAR file containing an entry below
+	 * {@code META-INF/versions} without declaring itself a multi-release JAR,
+	 * so that the entry is listed by its module reader.
+	 */
+	private static Path createPackagedModule(Path temp) throws Exception {
+		var moduleSourcePath = Path.of(ModuleUtilsTests.class.getResource("/modules-2500/").toURI()).toString();
+		var classes = temp.resolve("classes");
+		ToolProvider.findFirst("javac").orElseThrow().run(System.out, System.err, "--module", "foo",
+			"--module-source-path", moduleSourcePath, "-d", classes.toString());
+
+		var jar = temp.resolve("foo.jar");
+		var foo = Files.readAllBytes(classes.resolve("foo/foo/Foo.class"));
+		try (var out = new JarOutputStream(Files.newOutputStream(jar))) {
+			out.putNextEntry(new JarEntry("module-info.class"));
+			out.write(Files.readAllBytes(classes.resolve("foo/module-info.class")));
+			out.putNextEntry(new JarEntry("foo/Foo.class"));
+			out.write(foo);
+			out.putNextEntry(new JarEntry("META-INF/versions/11/foo/Foo.class"));
+			out.write(foo);
+		}
+		return jar;
+	}
+
+	private static ModuleLayer defineLayer(Path jar) {
+		var boot = ModuleLayer.boot();
+		var configuration = boot.configuration().resolve(ModuleFinder.of(jar), ModuleFinder.of(), Set.of("foo"));
+		return boot.defineModulesWithOneLoader(configuration, ClassLoader.getPlatformClassLoader());
+	}
+
+	private static ModuleReference moduleReference(ModuleLayer layer) {
+		return layer.configuration().findModule("foo").orElseThrow().reference();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static List<String> listContents(ModuleLayer layer, ModuleReference reference) throws Exception {
+		var method = ModuleUtils.class.getDeclaredMethod("listContents", ModuleLayer.class, ModuleReference.class);
+		method.setAccessible(true);
+		return (List<String>) method.invoke(null, layer, reference);
+	}
+
 }
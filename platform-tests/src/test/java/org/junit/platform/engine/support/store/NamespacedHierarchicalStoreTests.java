@@ -10,12 +10,15 @@
 
 package org.junit.platform.engine.support.store;
 
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.platform.commons.test.ConcurrencyTestingUtils.executeConcurrently;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
@@ -23,8 +26,13 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
@@ -395,6 +403,22 @@ public class NamespacedHierarchicalStoreTests {
 			verifyNoMoreInteractions(closeAction);
 		}
 
+		@Test
+		void callsCloseActionInReverseInsertionOrderAcrossNamespacesWhenClosingStore() throws Throwable {
+			store.put("ns1", "key1", "value1");
+			store.put("ns2", "key2", "value2");
+			store.put("ns1", "key3", "value3");
+
+			store.close();
+
+			var inOrder = inOrder(closeAction);
+			inOrder.verify(closeAction).close("ns1", "key3", "value3");
+			inOrder.verify(closeAction).close("ns2", "key2", "value2");
+			inOrder.verify(closeAction).close("ns1", "key1", "value1");
+
+			verifyNoMoreInteractions(closeAction);
+		}
+
 		@Test
 		void doesNotCallCloseActionForRemovedValues() {
 			store.put(namespace, key, value);
@@ -493,6 +517,89 @@ public class NamespacedHierarchicalStoreTests {
 			assertClosed();
 		}
 
+		@Test
+		void closesValuesOfDifferentNamespacesConcurrentlyIfEnabled() {
+			var latch = new CountDownLatch(2);
+			List<Object> closedValues = new CopyOnWriteArrayList<>();
+			try (var localStore = new NamespacedHierarchicalStore<String>(null, (namespace, key, value) -> {
+				latch.countDown();
+				assertTrue(latch.await(5, SECONDS), "values were not closed concurrently");
+				closedValues.add(value);
+			}, 2)) {
+				localStore.put("ns1", key, "value1");
+				localStore.put("ns2", key, "value2");
+			}
+
+			assertThat(closedValues).containsExactlyInAnyOrder("value1", "value2");
+		}
+
+		@Test
+		void closesValuesOfSameNamespaceInReverseInsertionOrderIfConcurrentCloseIsEnabled() {
+			Map<String, List<Object>> closedValues = new ConcurrentHashMap<>();
+			try (var localStore = new NamespacedHierarchicalStore<String>(null,
+				(namespace, key, value) -> closedValues.computeIfAbsent(namespace,
+					__ -> new CopyOnWriteArrayList<>()).add(value),
+				4)) {
+				for (int i = 0; i < 5; i++) {
+					localStore.put("ns1", "key" + i, "ns1-value" + i);
+					localStore.put("ns2", "key" + i, "ns2-value" + i);
+				}
+			}
+
+			assertThat(closedValues.get("ns1")).containsExactly("ns1-value4", "ns1-value3", "ns1-value2",
+				"ns1-value1", "ns1-value0");
+			assertThat(closedValues.get("ns2")).containsExactly("ns2-value4", "ns2-value3", "ns2-value2",
+				"ns2-value1", "ns2-value0");
+		}
+
+		@Test
+		void closesValuesOnCallingThreadIfOnlyOneNamespaceContainsValuesCloseActionAppliesTo() {
+			List<Object> closedValues = new CopyOnWriteArrayList<>();
+			List<Thread> closingThreads = new CopyOnWriteArrayList<>();
+			var closeIntegers = new NamespacedHierarchicalStore.CloseAction<String>() {
+
+				@Override
+				public void close(String namespace, Object key, Object value) {
+					closedValues.add(value);
+					closingThreads.add(Thread.currentThread());
+				}
+
+				@Override
+				public boolean appliesTo(String namespace, Object key, Object value) {
+					return value instanceof Integer;
+				}
+			};
+			try (var localStore = new NamespacedHierarchicalStore<>(null, closeIntegers, 2)) {
+				localStore.put("ns1", "key1", 1);
+				localStore.put("ns1", "key2", 2);
+				localStore.put("ns2", key, value);
+				localStore.put("ns3", key, value);
+			}
+
+			assertThat(closedValues).containsExactly(2, 1);
+			assertThat(closingThreads).containsOnly(Thread.currentThread());
+		}
+
+		@Test
+		void collectsAllExceptionsIfConcurrentCloseIsEnabled() throws Throwable {
+			when(closeAction.appliesTo(any(), any(), any())).thenReturn(true);
+			var localStore = new NamespacedHierarchicalStore<>(null, closeAction, 2);
+			localStore.put("ns1", "key1", "value1");
+			localStore.put("ns2", "key2", "value2");
+			localStore.put("ns2", "key3", "value3");
+			doThrow(new IllegalStateException("1")).when(closeAction).close("ns1", "key1", "value1");
+			doThrow(new IllegalStateException("2")).when(closeAction).close("ns2", "key2", "value2");
+			doThrow(new IllegalStateException("3")).when(closeAction).close("ns2", "key3", "value3");
+
+			var exception = assertThrows(IllegalStateException.class, localStore::close);
+
+			assertThat(localStore.isClosed()).isTrue();
+			assertThat(exception.getSuppressed()).hasSize(2);
+			verify(closeAction).close("ns1", "key1", "value1");
+			verify(closeAction).close("ns2", "key2", "value2");
+			verify(closeAction).close("ns2", "key3", "value3");
+		}
+
 		@Test
 		void closesStoreEvenIfNoCloseActionIsConfigured() {
 			@SuppressWarnings("resource")